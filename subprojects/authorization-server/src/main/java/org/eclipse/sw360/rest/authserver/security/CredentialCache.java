@@ -0,0 +1,68 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.authserver.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers credentials that were verified with Liferay for a short time. Only a salted SHA-256 hash
+ * of the password is kept, with a random salt for every entry.
+ */
+class CredentialCache {
+    private static final int SALT_LENGTH = 16;
+
+    private final SecureRandom random = new SecureRandom();
+    private final Cache<String, SaltedHash> verifiedCredentials;
+
+    CredentialCache(long ttlSeconds, long maxSize) {
+        verifiedCredentials = Caffeine.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    boolean isVerified(String name, String password) {
+        SaltedHash saltedHash = verifiedCredentials.getIfPresent(name);
+        return saltedHash != null && MessageDigest.isEqual(saltedHash.hash, hash(saltedHash.salt, password));
+    }
+
+    void putVerified(String name, String password) {
+        byte[] salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        verifiedCredentials.put(name, new SaltedHash(salt, hash(salt, password)));
+    }
+
+    private static byte[] hash(byte[] salt, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            return digest.digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class SaltedHash {
+        private final byte[] salt;
+        private final byte[] hash;
+
+        SaltedHash(byte[] salt, byte[] hash) {
+            this.salt = salt;
+            this.hash = hash;
+        }
+    }
+}
@@ -9,23 +9,35 @@
 
 package org.eclipse.sw360.rest.authserver.security;
 
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 
 @Component
@@ -42,9 +54,52 @@ public class Sw360AuthenticationProvider implements AuthenticationProvider {
     @Value("${sw360.sw360-liferay-company-id}")
     private String sw360LiferayCompanyId;
 
+    // successful logins are not checked with Liferay again for this time
+    @Value("${sw360.credential-cache.ttl-seconds:300}")
+    private long credentialCacheTtlSeconds;
+
+    @Value("${sw360.credential-cache.max-size:1000}")
+    private long credentialCacheMaxSize;
+
+    @Value("${sw360.liferay-client.max-connections:20}")
+    private int liferayMaxConnections;
+
+    @Value("${sw360.liferay-client.connect-timeout-millis:2000}")
+    private int liferayConnectTimeoutMillis;
+
+    @Value("${sw360.liferay-client.read-timeout-millis:10000}")
+    private int liferayReadTimeoutMillis;
+
     @Autowired
     Environment environment;
 
+    private CredentialCache credentialCache;
+
+    private CloseableHttpClient liferayHttpClient;
+
+    private RestTemplate restTemplate;
+
+    @PostConstruct
+    public void init() {
+        credentialCache = new CredentialCache(credentialCacheTtlSeconds, credentialCacheMaxSize);
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(liferayConnectTimeoutMillis)
+                .setConnectionRequestTimeout(liferayConnectTimeoutMillis)
+                .setSocketTimeout(liferayReadTimeoutMillis)
+                .build();
+        liferayHttpClient = HttpClients.custom()
+                .setMaxConnTotal(liferayMaxConnections)
+                .setMaxConnPerRoute(liferayMaxConnections)
+                .setDefaultRequestConfig(requestConfig)
+                .build();
+        restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(liferayHttpClient));
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        liferayHttpClient.close();
+    }
+
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
         String name = authentication.getName(); // this must be an email
@@ -62,17 +117,24 @@ public class Sw360AuthenticationProvider implements AuthenticationProvider {
             String url = sw360PortalServerURL +
                     String.format("/api/jsonws/user/get-user-id-by-email-address?companyId=%s&emailAddress=%s",
                             sw360LiferayCompanyId, name);
-            RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder();
+            if (credentialCache.isVerified(name, password)) {
+                return createAuthenticationToken(name, password);
+            }
             String encodedPassword = null;
             try {
                 encodedPassword = URLDecoder.decode(password, "US-ASCII");
             } catch (UnsupportedEncodingException e) {
                 return null;
             }
-            RestTemplate restTemplate = restTemplateBuilder.basicAuthorization(
-                    name, encodedPassword).build();
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                    url, null, String.class);
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.AUTHORIZATION, "Basic " + Base64.getEncoder()
+                    .encodeToString((name + ":" + encodedPassword).getBytes(StandardCharsets.UTF_8)));
+            ResponseEntity<String> response;
+            try {
+                response = restTemplate.postForEntity(url, new HttpEntity<>(headers), String.class);
+            } catch (ResourceAccessException e) {
+                throw new AuthenticationServiceException("cannot reach the sw360 portal to verify the credentials", e);
+            }
             String userId = response.getBody();
 
             // if this is a number, everything is ok
@@ -81,6 +143,7 @@ public class Sw360AuthenticationProvider implements AuthenticationProvider {
             } catch (NumberFormatException e) {
                 return null;
             }
+            credentialCache.putVerified(name, password);
             return createAuthenticationToken(name, password);
         }
         return null;
@@ -0,0 +1,114 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import org.eclipse.sw360.datahandler.thrift.components.Component;
+import org.eclipse.sw360.datahandler.thrift.components.Release;
+import org.eclipse.sw360.datahandler.thrift.projects.Project;
+import org.eclipse.sw360.rest.resourceserver.release.ReleaseController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.hateoas.Link;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+
+/**
+ * Builds the HAL resources of the detail endpoints, including their links and embedded resources.
+ * The helpers modify the thrift objects they embed, so every operation starts with copies.
+ */
+@State(Scope.Thread)
+public class HalRenderingBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int releaseCount;
+
+    private RestControllerHelper restControllerHelper;
+    private Project project;
+    private Component component;
+    private List<Release> releases;
+    private ResourceSelection selection;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Sw360Graphs.bindRequest();
+        restControllerHelper = Sw360Graphs.createRestControllerHelper();
+        project = Sw360Graphs.project(releaseCount);
+        component = Sw360Graphs.component(releaseCount);
+        releases = Sw360Graphs.releases(releaseCount);
+        selection = ResourceSelection.of(null, "moderators,attachments");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Sw360Graphs.unbindRequest();
+    }
+
+    @Benchmark
+    public HalResource<Project> project() {
+        Project projectCopy = new Project(project);
+        HalResource<Project> halProject = new HalResource<>(projectCopy);
+        restControllerHelper.addEmbeddedModerators(halProject, projectCopy.getModerators());
+        restControllerHelper.addEmbeddedReleases(halProject, copy(releases));
+        return halProject;
+    }
+
+    @Benchmark
+    public HalResource<Component> component() {
+        Component componentCopy = new Component(component);
+        HalResource<Component> halComponent = new HalResource<>(componentCopy);
+        restControllerHelper.addEmbeddedModerators(halComponent, componentCopy.getModerators());
+        restControllerHelper.addEmbeddedReleases(halComponent, copy(releases));
+        return halComponent;
+    }
+
+    @Benchmark
+    public List<HalResource<Release>> releases() {
+        List<HalResource<Release>> halReleases = new ArrayList<>(releases.size());
+        for (Release release : releases) {
+            halReleases.add(restControllerHelper.createHalReleaseResource(new Release(release), selection));
+        }
+        return halReleases;
+    }
+
+    @Benchmark
+    public List<Link> selfLinks() {
+        List<Link> links = new ArrayList<>(releases.size());
+        for (Release release : releases) {
+            links.add(linkTo(ReleaseController.class).slash("api/releases/" + release.getId()).withSelfRel());
+        }
+        return links;
+    }
+
+    @Benchmark
+    public List<Link> sw360SelfLinks() {
+        Sw360Links sw360Links = Sw360Links.current();
+        List<Link> links = new ArrayList<>(releases.size());
+        for (Release release : releases) {
+            links.add(sw360Links.selfLink(ReleaseController.RELEASES_URL, release.getId()));
+        }
+        return links;
+    }
+
+    private static List<Release> copy(List<Release> releases) {
+        List<Release> copies = new ArrayList<>(releases.size());
+        for (Release release : releases) {
+            copies.add(new Release(release));
+        }
+        return copies;
+    }
+}
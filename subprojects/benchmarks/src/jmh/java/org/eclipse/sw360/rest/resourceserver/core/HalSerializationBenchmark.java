@@ -0,0 +1,99 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.sw360.datahandler.thrift.components.Component;
+import org.eclipse.sw360.datahandler.thrift.components.Release;
+import org.eclipse.sw360.datahandler.thrift.projects.Project;
+import org.eclipse.sw360.rest.resourceserver.release.ReleaseSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serializes the HAL resources of the detail and list endpoints through a mapper configured with the sw360 mixins.
+ * The resources are built once, so only the Jackson part of a response is measured.
+ */
+@State(Scope.Thread)
+public class HalSerializationBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int releaseCount;
+
+    private ObjectMapper objectMapper;
+    private HalResource<Project> halProject;
+    private HalResource<Component> halComponent;
+    private HalResource<Release> halRelease;
+    private Resources<Resource<ReleaseSummary>> releaseSummaries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Sw360Graphs.bindRequest();
+        objectMapper = Sw360Graphs.createHalObjectMapper();
+        RestControllerHelper restControllerHelper = Sw360Graphs.createRestControllerHelper();
+
+        Project project = Sw360Graphs.project(releaseCount);
+        halProject = new HalResource<>(project);
+        restControllerHelper.addEmbeddedModerators(halProject, project.getModerators());
+        restControllerHelper.addEmbeddedReleases(halProject, Sw360Graphs.releases(releaseCount));
+
+        Component component = Sw360Graphs.component(releaseCount);
+        halComponent = new HalResource<>(component);
+        restControllerHelper.addEmbeddedModerators(halComponent, component.getModerators());
+        restControllerHelper.addEmbeddedReleases(halComponent, Sw360Graphs.releases(releaseCount));
+
+        halRelease = restControllerHelper.createHalReleaseResource(Sw360Graphs.release(0),
+                ResourceSelection.of(null, "moderators,attachments"));
+
+        List<Resource<ReleaseSummary>> summaries = new ArrayList<>(releaseCount);
+        for (Release release : Sw360Graphs.releases(releaseCount)) {
+            summaries.add(new Resource<>(ReleaseSummary.from(release),
+                    new Link("https://sw360.org/api/releases/" + release.getId())));
+        }
+        releaseSummaries = new Resources<>(summaries, new Link("https://sw360.org/api/releases"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Sw360Graphs.unbindRequest();
+    }
+
+    @Benchmark
+    public byte[] project() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(halProject);
+    }
+
+    @Benchmark
+    public byte[] component() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(halComponent);
+    }
+
+    @Benchmark
+    public byte[] release() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(halRelease);
+    }
+
+    @Benchmark
+    public byte[] releaseList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(releaseSummaries);
+    }
+}
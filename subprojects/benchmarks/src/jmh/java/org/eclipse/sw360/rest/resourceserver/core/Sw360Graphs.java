@@ -0,0 +1,185 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.eclipse.sw360.datahandler.thrift.MainlineState;
+import org.eclipse.sw360.datahandler.thrift.ProjectReleaseRelationship;
+import org.eclipse.sw360.datahandler.thrift.ReleaseRelationship;
+import org.eclipse.sw360.datahandler.thrift.attachments.Attachment;
+import org.eclipse.sw360.datahandler.thrift.attachments.AttachmentType;
+import org.eclipse.sw360.datahandler.thrift.components.ClearingState;
+import org.eclipse.sw360.datahandler.thrift.components.Component;
+import org.eclipse.sw360.datahandler.thrift.components.ComponentType;
+import org.eclipse.sw360.datahandler.thrift.components.Release;
+import org.eclipse.sw360.datahandler.thrift.projects.Project;
+import org.eclipse.sw360.datahandler.thrift.projects.ProjectType;
+import org.eclipse.sw360.rest.resourceserver.Sw360ResourceServer;
+import org.eclipse.sw360.rest.resourceserver.license.Sw360LicenseService;
+import org.eclipse.sw360.rest.resourceserver.thrift.ThriftCallMetrics;
+import org.eclipse.sw360.rest.resourceserver.thrift.ThriftClientPools;
+import org.eclipse.sw360.rest.resourceserver.user.Sw360UserService;
+import org.eclipse.sw360.rest.resourceserver.vendor.Sw360VendorService;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.hateoas.core.AnnotationRelProvider;
+import org.springframework.hateoas.hal.DefaultCurieProvider;
+import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UriTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds sw360 object graphs of a given size and the parts of the resource server that render them,
+ * configured like in the running application but without a backend.
+ */
+class Sw360Graphs {
+
+    private Sw360Graphs() {
+    }
+
+    /**
+     * @return a mapper with the sw360 mixins, the field selection filter and the HAL module of Spring Data REST
+     */
+    static ObjectMapper createHalObjectMapper() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modules(new JacksonCustomizations.Sw360Module(), new Jackson2HalModule())
+                .filters(new SimpleFilterProvider().addFilter(SelectedFieldsFilter.FILTER_ID, new SelectedFieldsFilter()))
+                .build();
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(new AnnotationRelProvider(),
+                new DefaultCurieProvider(Sw360ResourceServer.CURIE_NAMESPACE, new UriTemplate("/docs/html5/{rel}.html")),
+                null));
+        return objectMapper;
+    }
+
+    /**
+     * @return a helper that can render everything that is embedded without a backend lookup
+     */
+    static RestControllerHelper createRestControllerHelper() {
+        ThriftClientPools thriftClientPools = new ThriftClientPools(new ThriftCallMetrics(), new StandardEnvironment());
+        return new RestControllerHelper(
+                new Sw360UserService(thriftClientPools),
+                new Sw360VendorService(thriftClientPools),
+                new Sw360LicenseService(thriftClientPools),
+                new EmbeddingExecutor(),
+                new RequestExecutor());
+    }
+
+    /**
+     * Links are built from the current request, like in a controller.
+     */
+    static void bindRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.setScheme("https");
+        request.setServerName("sw360.org");
+        request.setServerPort(443);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    static void unbindRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    static Project project(int releaseCount) {
+        Project project = new Project();
+        project.setId("p0000001");
+        project.setName("Emerald Web");
+        project.setVersion("1.0.2");
+        project.setDescription("Emerald Web provides a suite of components for Critical Infrastructures.");
+        project.setProjectType(ProjectType.PRODUCT);
+        project.setBusinessUnit("sw360 AR");
+        project.setCreatedBy("admin@sw360.org");
+        project.setCreatedOn("2016-12-15");
+        project.setModerators(moderators(releaseCount / 10 + 1));
+        project.setAttachments(attachments(releaseCount / 5 + 1));
+        Map<String, ProjectReleaseRelationship> releaseIdToUsage = new HashMap<>();
+        for (int i = 0; i < releaseCount; i++) {
+            releaseIdToUsage.put(releaseId(i),
+                    new ProjectReleaseRelationship(ReleaseRelationship.CONTAINED, MainlineState.MAINLINE));
+        }
+        project.setReleaseIdToUsage(releaseIdToUsage);
+        return project;
+    }
+
+    static Component component(int releaseCount) {
+        Component component = new Component();
+        component.setId("c0000001");
+        component.setName("Spring Framework");
+        component.setDescription("The Spring Framework provides a comprehensive programming and configuration model.");
+        component.setComponentType(ComponentType.OSS);
+        component.setCreatedBy("admin@sw360.org");
+        component.setCreatedOn("2016-12-15");
+        component.setVendorNames(new HashSet<>(Arrays.asList("Pivotal Software, Inc.")));
+        component.setModerators(moderators(3));
+        component.setAttachments(attachments(2));
+        return component;
+    }
+
+    static Release release(int index) {
+        Release release = new Release();
+        release.setId(releaseId(index));
+        release.setName("spring-core");
+        release.setVersion("4.3." + index);
+        release.setComponentId("c0000001");
+        release.setCpeid("cpe:/a:pivotal:spring-core:4.3." + index + ":");
+        release.setClearingState(ClearingState.APPROVED);
+        release.setCreatedBy("admin@sw360.org");
+        release.setCreatedOn("2016-12-18");
+        release.setReleaseDate("2016-12-07");
+        release.setModerators(moderators(3));
+        release.setAttachments(attachments(2));
+        release.setMainLicenseIds(new HashSet<>(Arrays.asList("apache20", "mit")));
+        return release;
+    }
+
+    static List<Release> releases(int count) {
+        List<Release> releases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            releases.add(release(i));
+        }
+        return releases;
+    }
+
+    private static String releaseId(int index) {
+        return String.format("r%07d", index);
+    }
+
+    private static Set<String> moderators(int count) {
+        Set<String> moderators = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            moderators.add("moderator" + i + "@sw360.org");
+        }
+        return moderators;
+    }
+
+    private static Set<Attachment> attachments(int count) {
+        Set<Attachment> attachments = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            Attachment attachment = new Attachment();
+            attachment.setAttachmentContentId("a" + i);
+            attachment.setFilename("spring-core-4.3." + i + ".RELEASE.jar");
+            attachment.setAttachmentType(AttachmentType.BINARY_SELF);
+            attachment.setCreatedBy("admin@sw360.org");
+            attachment.setCreatedOn("2016-12-18");
+            attachments.add(attachment);
+        }
+        return attachments;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.security.jwt.JwtHelper;
+import org.springframework.security.jwt.crypto.sign.RsaSigner;
+import org.springframework.security.oauth2.provider.token.store.KeyStoreKeyFactory;
+
+import java.io.IOException;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPrivateKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives a running resource server over HTTP to measure its latency distribution, including the tail
+ * percentiles. The resource server is expected to talk to the fake backend, see the README.
+ * The base url and the access token are taken from the system properties {@code sw360.load.url} and
+ * {@code sw360.load.access-token}; without a token one is signed with the key of {@code sw360.load.keystore}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+public class RestApiLoadBenchmark {
+
+    private static final int TOKEN_VALIDITY_SECONDS = 24 * 60 * 60;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CloseableHttpClient httpClient;
+    private String baseUrl;
+    private String authorization;
+    private List<String> projectIds;
+    private List<String> componentIds;
+    private List<String> releaseIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        baseUrl = System.getProperty("sw360.load.url", "http://localhost:8091");
+        httpClient = HttpClients.custom()
+                .setMaxConnTotal(64)
+                .setMaxConnPerRoute(64)
+                .build();
+        authorization = "Bearer " + accessToken();
+
+        projectIds = selfIds("/api/projects");
+        componentIds = selfIds("/api/components");
+        releaseIds = selfIds("/api/releases");
+        if (projectIds.isEmpty() || componentIds.isEmpty() || releaseIds.isEmpty()) {
+            throw new IllegalStateException("The resource server at " + baseUrl + " has no projects, components or releases");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        httpClient.close();
+    }
+
+    @Benchmark
+    public int getProjects() throws IOException {
+        return get("/api/projects");
+    }
+
+    @Benchmark
+    public int getReleasesPage() throws IOException {
+        return get("/api/releases?page=" + ThreadLocalRandom.current().nextInt(10) + "&size=20");
+    }
+
+    @Benchmark
+    public int getProject() throws IOException {
+        return get("/api/projects/" + pick(projectIds));
+    }
+
+    @Benchmark
+    public int getComponent() throws IOException {
+        return get("/api/components/" + pick(componentIds));
+    }
+
+    @Benchmark
+    public int getRelease() throws IOException {
+        return get("/api/releases/" + pick(releaseIds));
+    }
+
+    private int get(String path) throws IOException {
+        HttpGet request = new HttpGet(baseUrl + path);
+        request.setHeader(HttpHeaders.AUTHORIZATION, authorization);
+        try (CloseableHttpResponse response = httpClient.execute(request)) {
+            int status = response.getStatusLine().getStatusCode();
+            EntityUtils.consume(response.getEntity());
+            if (status != 200) {
+                throw new IllegalStateException("GET " + path + " returned " + status);
+            }
+            return status;
+        }
+    }
+
+    private List<String> selfIds(String path) throws IOException {
+        HttpGet request = new HttpGet(baseUrl + path);
+        request.setHeader(HttpHeaders.AUTHORIZATION, authorization);
+        JsonNode embedded;
+        try (CloseableHttpResponse response = httpClient.execute(request)) {
+            embedded = objectMapper.readTree(response.getEntity().getContent()).path("_embedded");
+        }
+
+        List<String> ids = new ArrayList<>();
+        Iterator<JsonNode> collections = embedded.elements();
+        while (collections.hasNext()) {
+            for (JsonNode resource : collections.next()) {
+                String href = resource.path("_links").path("self").path("href").asText();
+                ids.add(href.substring(href.lastIndexOf('/') + 1));
+            }
+        }
+        return ids;
+    }
+
+    private String accessToken() throws IOException {
+        String accessToken = System.getProperty("sw360.load.access-token");
+        if (accessToken != null && !accessToken.isEmpty()) {
+            return accessToken;
+        }
+
+        KeyPair keyPair = new KeyStoreKeyFactory(
+                new FileSystemResource(System.getProperty("sw360.load.keystore")),
+                System.getProperty("sw360.load.keystore-password", "sw360SecretKey").toCharArray())
+                .getKeyPair(System.getProperty("sw360.load.key-alias", "jwt"));
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("aud", Collections.singletonList("sw360-REST-API"));
+        claims.put("user_name", System.getProperty("sw360.load.user", "admin@sw360.org"));
+        claims.put("scope", Arrays.asList("sw360.read", "sw360.write"));
+        claims.put("authorities", Collections.singletonList("ROLE_SW360_USER"));
+        claims.put("client_id", "trusted-sw360-client");
+        claims.put("jti", UUID.randomUUID().toString());
+        claims.put("exp", System.currentTimeMillis() / 1000 + TOKEN_VALIDITY_SECONDS);
+
+        return JwtHelper.encode(objectMapper.writeValueAsString(claims),
+                new RsaSigner((RSAPrivateKey) keyPair.getPrivate())).getEncoded();
+    }
+
+    private static String pick(List<String> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
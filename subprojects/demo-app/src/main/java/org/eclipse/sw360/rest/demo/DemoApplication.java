@@ -72,12 +72,20 @@ public class DemoApplication {
         URI vendorUri = javaApi.createVendor("Pivotal Software, Inc.", "Pivotal", new URL("https://pivotal.io/"));
         URI licenseUri = javaApi.createLicense("Apache License 2.0", "apache20", "Placeholder for Apache 2.0 license text.");
 
+        List<String> componentNames = new ArrayList<>();
+        List<String> componentVersions = new ArrayList<>();
         Path dir = Paths.get(springFrameworkDist + "/libs");
         DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.jar");
         for (Path path : stream) {
-            addComponent(path.getFileName().toString(), vendorUri, licenseUri);
+            addComponent(path.getFileName().toString(), componentNames, componentVersions);
         }
 
+        // all components and releases are created with one request each
+        List<URI> componentURIs = javaApi.createComponents(componentNames, vendorUri);
+        releaseURIs.addAll(javaApi.createReleases(componentNames, componentVersions,
+                componentURIs, vendorUri, Collections.singletonList(licenseUri),
+                Collections.singletonMap("mainline-id-component", "1432")));
+
         URI projectURI = javaApi.createProject(
                 "Spring Framework",
                 "The Spring Framework provides a comprehensive programming"
@@ -88,7 +96,7 @@ public class DemoApplication {
                 Collections.singletonMap("mainline-id-project", "25432"));
     }
 
-    private void addComponent(String jarFile, URI vendorUri, URI licenseUri) throws Exception {
+    private void addComponent(String jarFile, List<String> componentNames, List<String> componentVersions) {
         if (jarFile.contains("javadoc") || jarFile.contains("sources")) {
             return;
         }
@@ -98,11 +106,8 @@ public class DemoApplication {
         String componentName = jarFile.substring(0, indexOfFirstDigit - 1);
         String componentVersion = jarFile.substring(indexOfFirstDigit, jarFile.length() - 4);
 
-        URI componentURI = javaApi.createComponent(componentName, vendorUri);
-        URI releaseURI = javaApi.createRelease(componentName, componentVersion,
-                componentURI, vendorUri, Collections.singletonList(licenseUri),
-                Collections.singletonMap("mainline-id-component", "1432"));
-        releaseURIs.add(releaseURI);
+        componentNames.add(componentName);
+        componentVersions.add(componentVersion);
     }
 
     public static void main(String[] args) throws Exception {
@@ -106,6 +106,42 @@ public class JavaApi {
         return location;
     }
 
+    public List<URI> createComponents(List<String> names, URI vendorUri) throws Exception {
+        List<Map<String, Object>> components = new ArrayList<>();
+        for (String name : names) {
+            Map<String, Object> component = new HashMap<>();
+            component.put("name", name);
+            component.put("description", name + " is part of the Spring framework");
+            component.put("componentType", ComponentType.OSS.toString());
+            component.put("vendors", Collections.singletonList(vendorUri));
+            components.add(component);
+        }
+
+        return postBulk(componentsUrl + "/bulk", components);
+    }
+
+    public List<URI> createReleases(List<String> names,
+                                    List<String> versions,
+                                    List<URI> componentURIs,
+                                    URI vendorUri,
+                                    List<URI> licenseUris,
+                                    Map<String, String> externalIds) throws Exception {
+        List<Map<String, Object>> releases = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            Map<String, Object> release = new HashMap<>();
+            release.put("name", names.get(i));
+            release.put("componentId", componentURIs.get(i).toString());
+            release.put("vendorId", vendorUri.toString());
+            release.put("version", versions.get(i));
+            release.put("clearingState", ClearingState.APPROVED.toString());
+            release.put("externalIds", externalIds);
+            release.put("mainLicenseIds", licenseUris);
+            releases.add(release);
+        }
+
+        return postBulk(releasesUrl + "/bulk", releases);
+    }
+
     public URI createVendor(String fullName, String shortName, URL url) throws Exception {
         Map<String, Object> vendor = new HashMap<>();
         vendor.put("fullName", fullName);
@@ -151,6 +187,22 @@ public class JavaApi {
         this.licensesUrl = linksNode.get(curieName + ":licenses").get("href").asText();
     }
 
+    private List<URI> postBulk(String url, List<Map<String, Object>> items) throws Exception {
+        String jsonBody = this.objectMapper.writeValueAsString(items);
+        HttpEntity<String> httpEntity = new HttpEntity<>(jsonBody, getHeadersWithBearerToken(getAccessToken()));
+
+        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, httpEntity, String.class);
+
+        List<URI> locations = new ArrayList<>();
+        for (JsonNode statusNode : objectMapper.readTree(response.getBody())) {
+            if (statusNode.get("status").asInt() != HttpStatus.CREATED.value()) {
+                throw new IllegalStateException("bulk item could not be created: " + statusNode.path("message").asText());
+            }
+            locations.add(new URI(statusNode.get("href").asText()));
+        }
+        return locations;
+    }
+
     private HttpEntity<String> getHttpEntity(Map<String, Object> component) throws IOException {
         String jsonBody = this.objectMapper.writeValueAsString(component);
         HttpHeaders headers = getHeadersWithBearerToken(getAccessToken());
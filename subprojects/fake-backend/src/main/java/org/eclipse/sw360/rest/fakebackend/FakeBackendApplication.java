@@ -0,0 +1,25 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.fakebackend;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * A stand-in for the sw360 Thrift server, serving synthetic data without CouchDB.
+ * It is meant for load and latency tests of the REST layer, not for functional tests.
+ */
+@SpringBootApplication
+public class FakeBackendApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(FakeBackendApplication.class, args);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.fakebackend;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.thrift.TException;
+import org.eclipse.sw360.datahandler.thrift.AddDocumentRequestStatus;
+import org.eclipse.sw360.datahandler.thrift.AddDocumentRequestSummary;
+import org.eclipse.sw360.datahandler.thrift.components.Component;
+import org.eclipse.sw360.datahandler.thrift.components.Release;
+import org.eclipse.sw360.datahandler.thrift.users.User;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The methods of ComponentService.Iface used by the resource server.
+ */
+@RequiredArgsConstructor
+class FakeComponentService {
+    private final SyntheticCatalogue catalogue;
+
+    public List<Component> getComponentSummary(User user) {
+        return new ArrayList<>(catalogue.getComponents().values());
+    }
+
+    public Component getComponentById(String id, User user) throws TException {
+        Component component = catalogue.getComponents().get(id);
+        if (component == null) {
+            throw new TException("component " + id + " does not exist");
+        }
+        return component;
+    }
+
+    public AddDocumentRequestSummary addComponent(Component component, User user) {
+        for (Component existingComponent : catalogue.getComponents().values()) {
+            if (existingComponent.getName().equals(component.getName())) {
+                return addDocumentRequestSummary(AddDocumentRequestStatus.DUPLICATE, null);
+            }
+        }
+        Component newComponent = new Component(component);
+        newComponent.setId(catalogue.newId());
+        newComponent.setCreatedBy(user.getEmail());
+        catalogue.getComponents().put(newComponent.getId(), newComponent);
+        return addDocumentRequestSummary(AddDocumentRequestStatus.SUCCESS, newComponent.getId());
+    }
+
+    public List<Release> getReleaseSummary(User user) {
+        return new ArrayList<>(catalogue.getReleases().values());
+    }
+
+    public Release getReleaseById(String id, User user) throws TException {
+        Release release = catalogue.getReleases().get(id);
+        if (release == null) {
+            throw new TException("release " + id + " does not exist");
+        }
+        return release;
+    }
+
+    public List<Release> getReleasesById(Set<String> ids, User user) {
+        List<Release> releases = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Release release = catalogue.getReleases().get(id);
+            if (release != null) {
+                releases.add(release);
+            }
+        }
+        return releases;
+    }
+
+    public AddDocumentRequestSummary addRelease(Release release, User user) {
+        Component component = catalogue.getComponents().get(release.getComponentId());
+        if (component == null) {
+            return addDocumentRequestSummary(AddDocumentRequestStatus.FAILURE, null);
+        }
+        Release newRelease = new Release(release);
+        newRelease.setId(catalogue.newId());
+        newRelease.setCreatedBy(user.getEmail());
+        catalogue.getReleases().put(newRelease.getId(), newRelease);
+
+        Component updatedComponent = new Component(component);
+        Set<String> releaseIds = component.getReleaseIds() != null ? new HashSet<>(component.getReleaseIds()) : new HashSet<>();
+        releaseIds.add(newRelease.getId());
+        updatedComponent.setReleaseIds(releaseIds);
+        catalogue.getComponents().put(updatedComponent.getId(), updatedComponent);
+        return addDocumentRequestSummary(AddDocumentRequestStatus.SUCCESS, newRelease.getId());
+    }
+
+    private static AddDocumentRequestSummary addDocumentRequestSummary(AddDocumentRequestStatus status, String id) {
+        AddDocumentRequestSummary summary = new AddDocumentRequestSummary();
+        summary.setRequestStatus(status);
+        summary.setId(id);
+        return summary;
+    }
+}
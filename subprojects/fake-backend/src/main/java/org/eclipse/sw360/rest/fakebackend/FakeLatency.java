@@ -0,0 +1,34 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.fakebackend;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Delays every Thrift call like a real backend with CouchDB would.
+ */
+@Component
+public class FakeLatency {
+    @Value("${fake-backend.latency.base-millis:5}")
+    private long baseMillis;
+
+    @Value("${fake-backend.latency.jitter-millis:10}")
+    private long jitterMillis;
+
+    public void delay() throws InterruptedException {
+        long millis = baseMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.fakebackend;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.thrift.TException;
+import org.eclipse.sw360.datahandler.thrift.licenses.License;
+import org.eclipse.sw360.datahandler.thrift.users.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The methods of LicenseService.Iface used by the resource server.
+ */
+@RequiredArgsConstructor
+class FakeLicenseService {
+    private final SyntheticCatalogue catalogue;
+
+    public List<License> getLicenseSummary() {
+        return new ArrayList<>(catalogue.getLicenses().values());
+    }
+
+    public License getByID(String id, String organisation) throws TException {
+        License license = catalogue.getLicenses().get(id);
+        if (license == null) {
+            throw new TException("license " + id + " does not exist");
+        }
+        return license;
+    }
+
+    public List<License> addLicenses(List<License> licenses, User user) {
+        List<License> addedLicenses = new ArrayList<>(licenses.size());
+        for (License license : licenses) {
+            License newLicense = new License(license);
+            catalogue.getLicenses().put(newLicense.getId(), newLicense);
+            addedLicenses.add(newLicense);
+        }
+        return addedLicenses;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.fakebackend;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.thrift.TException;
+import org.eclipse.sw360.datahandler.thrift.AddDocumentRequestStatus;
+import org.eclipse.sw360.datahandler.thrift.AddDocumentRequestSummary;
+import org.eclipse.sw360.datahandler.thrift.RequestStatus;
+import org.eclipse.sw360.datahandler.thrift.projects.Project;
+import org.eclipse.sw360.datahandler.thrift.users.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The methods of ProjectService.Iface used by the resource server.
+ */
+@RequiredArgsConstructor
+class FakeProjectService {
+    private final SyntheticCatalogue catalogue;
+
+    public List<Project> getAccessibleProjectsSummary(User user) {
+        return new ArrayList<>(catalogue.getProjects().values());
+    }
+
+    public Project getProjectById(String id, User user) throws TException {
+        Project project = catalogue.getProjects().get(id);
+        if (project == null) {
+            throw new TException("project " + id + " does not exist");
+        }
+        return project;
+    }
+
+    public AddDocumentRequestSummary addProject(Project project, User user) {
+        Project newProject = new Project(project);
+        newProject.setId(catalogue.newId());
+        newProject.setCreatedBy(user.getEmail());
+        catalogue.getProjects().put(newProject.getId(), newProject);
+        return addDocumentRequestSummary(AddDocumentRequestStatus.SUCCESS, newProject.getId());
+    }
+
+    public RequestStatus updateProject(Project project, User user) {
+        if (project.getId() == null || catalogue.getProjects().replace(project.getId(), new Project(project)) == null) {
+            return RequestStatus.FAILURE;
+        }
+        return RequestStatus.SUCCESS;
+    }
+
+    public RequestStatus deleteProject(String id, User user) {
+        return catalogue.getProjects().remove(id) != null ? RequestStatus.SUCCESS : RequestStatus.FAILURE;
+    }
+
+    private static AddDocumentRequestSummary addDocumentRequestSummary(AddDocumentRequestStatus status, String id) {
+        AddDocumentRequestSummary summary = new AddDocumentRequestSummary();
+        summary.setRequestStatus(status);
+        summary.setId(id);
+        return summary;
+    }
+}
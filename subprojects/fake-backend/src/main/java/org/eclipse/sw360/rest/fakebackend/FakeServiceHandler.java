@@ -0,0 +1,66 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.fakebackend;
+
+import org.apache.thrift.TException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implements a Thrift service interface with the methods of the same name and parameter types of a fake service.
+ * The fake services only implement the methods the resource server calls, all others fail with a TException.
+ */
+class FakeServiceHandler implements InvocationHandler {
+    private final String serviceName;
+    private final Object fakeService;
+    private final FakeLatency latency;
+    private final Map<Method, Optional<Method>> implementations = new ConcurrentHashMap<>();
+
+    private FakeServiceHandler(String serviceName, Object fakeService, FakeLatency latency) {
+        this.serviceName = serviceName;
+        this.fakeService = fakeService;
+        this.latency = latency;
+    }
+
+    static <T> T create(String serviceName, Class<T> serviceInterface, Object fakeService, FakeLatency latency) {
+        return serviceInterface.cast(Proxy.newProxyInstance(serviceInterface.getClassLoader(),
+                new Class<?>[]{serviceInterface}, new FakeServiceHandler(serviceName, fakeService, latency)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(this, args);
+        }
+
+        Method implementation = implementations.computeIfAbsent(method, this::findImplementation)
+                .orElseThrow(() -> new TException(serviceName + "." + method.getName() + " is not supported by the fake backend"));
+        latency.delay();
+        try {
+            return implementation.invoke(fakeService, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Optional<Method> findImplementation(Method method) {
+        try {
+            return Optional.of(fakeService.getClass().getDeclaredMethod(method.getName(), method.getParameterTypes()));
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.fakebackend;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.server.TServlet;
+import org.eclipse.sw360.datahandler.thrift.components.ComponentService;
+import org.eclipse.sw360.datahandler.thrift.licenses.LicenseService;
+import org.eclipse.sw360.datahandler.thrift.projects.ProjectService;
+import org.eclipse.sw360.datahandler.thrift.users.UserService;
+import org.eclipse.sw360.datahandler.thrift.vendors.VendorService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Serves the fake services at the paths and with the protocol of the sw360 Thrift server.
+ */
+@Configuration
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class FakeThriftServletConfiguration {
+    @NonNull
+    private final SyntheticCatalogue catalogue;
+
+    @NonNull
+    private final FakeLatency latency;
+
+    @Bean
+    public ServletRegistrationBean projectServiceServlet() {
+        return thriftServlet("ProjectService", "/projects/thrift", new ProjectService.Processor<>(
+                FakeServiceHandler.create("ProjectService", ProjectService.Iface.class, new FakeProjectService(catalogue), latency)));
+    }
+
+    @Bean
+    public ServletRegistrationBean componentServiceServlet() {
+        return thriftServlet("ComponentService", "/components/thrift", new ComponentService.Processor<>(
+                FakeServiceHandler.create("ComponentService", ComponentService.Iface.class, new FakeComponentService(catalogue), latency)));
+    }
+
+    @Bean
+    public ServletRegistrationBean vendorServiceServlet() {
+        return thriftServlet("VendorService", "/vendors/thrift", new VendorService.Processor<>(
+                FakeServiceHandler.create("VendorService", VendorService.Iface.class, new FakeVendorService(catalogue), latency)));
+    }
+
+    @Bean
+    public ServletRegistrationBean licenseServiceServlet() {
+        return thriftServlet("LicenseService", "/licenses/thrift", new LicenseService.Processor<>(
+                FakeServiceHandler.create("LicenseService", LicenseService.Iface.class, new FakeLicenseService(catalogue), latency)));
+    }
+
+    @Bean
+    public ServletRegistrationBean userServiceServlet() {
+        return thriftServlet("UserService", "/users/thrift", new UserService.Processor<>(
+                FakeServiceHandler.create("UserService", UserService.Iface.class, new FakeUserService(catalogue), latency)));
+    }
+
+    private static ServletRegistrationBean thriftServlet(String name, String path, TProcessor processor) {
+        ServletRegistrationBean registration = new ServletRegistrationBean(new TServlet(processor, new TCompactProtocol.Factory()), path);
+        registration.setName(name);
+        return registration;
+    }
+}
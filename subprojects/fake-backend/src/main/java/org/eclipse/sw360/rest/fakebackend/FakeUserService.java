@@ -0,0 +1,32 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.fakebackend;
+
+import lombok.RequiredArgsConstructor;
+import org.eclipse.sw360.datahandler.thrift.users.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The methods of UserService.Iface used by the resource server.
+ */
+@RequiredArgsConstructor
+class FakeUserService {
+    private final SyntheticCatalogue catalogue;
+
+    public List<User> getAllUsers() {
+        return new ArrayList<>(catalogue.getUsersByEmail().values());
+    }
+
+    public User getByEmail(String email) {
+        return catalogue.getOrCreateUser(email);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.fakebackend;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.thrift.TException;
+import org.eclipse.sw360.datahandler.thrift.RequestStatus;
+import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.datahandler.thrift.vendors.Vendor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The methods of VendorService.Iface used by the resource server.
+ */
+@RequiredArgsConstructor
+class FakeVendorService {
+    private final SyntheticCatalogue catalogue;
+
+    public List<Vendor> getAllVendors() {
+        return new ArrayList<>(catalogue.getVendors().values());
+    }
+
+    public Vendor getByID(String id) throws TException {
+        Vendor vendor = catalogue.getVendors().get(id);
+        if (vendor == null) {
+            throw new TException("vendor " + id + " does not exist");
+        }
+        return vendor;
+    }
+
+    public String addVendor(Vendor vendor) {
+        Vendor newVendor = new Vendor(vendor);
+        newVendor.setId(catalogue.newId());
+        catalogue.getVendors().put(newVendor.getId(), newVendor);
+        return newVendor.getId();
+    }
+
+    public RequestStatus updateVendor(Vendor vendor, User user) {
+        if (vendor.getId() == null || catalogue.getVendors().replace(vendor.getId(), new Vendor(vendor)) == null) {
+            return RequestStatus.FAILURE;
+        }
+        return RequestStatus.SUCCESS;
+    }
+
+    public RequestStatus deleteVendor(String id, User user) {
+        return catalogue.getVendors().remove(id) != null ? RequestStatus.SUCCESS : RequestStatus.FAILURE;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.fakebackend;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.sw360.datahandler.thrift.MainlineState;
+import org.eclipse.sw360.datahandler.thrift.ProjectReleaseRelationship;
+import org.eclipse.sw360.datahandler.thrift.ReleaseRelationship;
+import org.eclipse.sw360.datahandler.thrift.attachments.Attachment;
+import org.eclipse.sw360.datahandler.thrift.attachments.AttachmentType;
+import org.eclipse.sw360.datahandler.thrift.components.ClearingState;
+import org.eclipse.sw360.datahandler.thrift.components.Component;
+import org.eclipse.sw360.datahandler.thrift.components.ComponentType;
+import org.eclipse.sw360.datahandler.thrift.components.Release;
+import org.eclipse.sw360.datahandler.thrift.licenses.License;
+import org.eclipse.sw360.datahandler.thrift.projects.Project;
+import org.eclipse.sw360.datahandler.thrift.projects.ProjectType;
+import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.datahandler.thrift.users.UserGroup;
+import org.eclipse.sw360.datahandler.thrift.vendors.Vendor;
+import org.springframework.beans.factory.annotation.Value;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The data served by the fake backend, generated from a seed at startup.
+ * Documents are replaced and never modified after they were stored, so they can be serialized while others are written.
+ */
+@Slf4j
+@org.springframework.stereotype.Component
+public class SyntheticCatalogue {
+    @Value("${fake-backend.catalogue.seed:42}")
+    private long seed;
+
+    @Value("${fake-backend.catalogue.users:50}")
+    private int userCount;
+
+    @Value("${fake-backend.catalogue.vendors:100}")
+    private int vendorCount;
+
+    @Value("${fake-backend.catalogue.licenses:200}")
+    private int licenseCount;
+
+    @Value("${fake-backend.catalogue.components:1000}")
+    private int componentCount;
+
+    @Value("${fake-backend.catalogue.releases-per-component:5}")
+    private int releasesPerComponent;
+
+    @Value("${fake-backend.catalogue.projects:200}")
+    private int projectCount;
+
+    @Value("${fake-backend.catalogue.releases-per-project:50}")
+    private int releasesPerProject;
+
+    @Value("${fake-backend.catalogue.attachments-per-release:2}")
+    private int attachmentsPerRelease;
+
+    @Getter
+    private final Map<String, User> usersByEmail = new ConcurrentHashMap<>();
+    @Getter
+    private final Map<String, Vendor> vendors = new ConcurrentHashMap<>();
+    @Getter
+    private final Map<String, License> licenses = new ConcurrentHashMap<>();
+    @Getter
+    private final Map<String, Component> components = new ConcurrentHashMap<>();
+    @Getter
+    private final Map<String, Release> releases = new ConcurrentHashMap<>();
+    @Getter
+    private final Map<String, Project> projects = new ConcurrentHashMap<>();
+
+    private Random random;
+
+    @PostConstruct
+    public void generate() {
+        random = new Random(seed);
+
+        usersByEmail.put("admin@sw360.org", createUser("admin@sw360.org", UserGroup.ADMIN));
+        for (int i = 1; i < userCount; i++) {
+            String email = "user" + i + "@sw360.org";
+            usersByEmail.put(email, createUser(email, UserGroup.USER));
+        }
+        List<String> emails = new ArrayList<>(usersByEmail.keySet());
+
+        List<Vendor> vendorList = new ArrayList<>(vendorCount);
+        for (int i = 0; i < vendorCount; i++) {
+            Vendor vendor = new Vendor();
+            vendor.setId(id("v", i));
+            vendor.setShortname("Vendor " + i);
+            vendor.setFullname("Vendor " + i + " Inc.");
+            vendor.setUrl("https://vendor" + i + ".example.org");
+            vendors.put(vendor.getId(), vendor);
+            vendorList.add(vendor);
+        }
+
+        List<String> licenseIds = new ArrayList<>(licenseCount);
+        for (int i = 0; i < licenseCount; i++) {
+            License license = new License();
+            license.setId("License-" + i);
+            license.setShortname("License-" + i);
+            license.setFullname("Synthetic License " + i);
+            licenses.put(license.getId(), license);
+            licenseIds.add(license.getId());
+        }
+
+        List<String> releaseIds = new ArrayList<>(componentCount * releasesPerComponent);
+        for (int i = 0; i < componentCount; i++) {
+            Vendor vendor = vendorList.isEmpty() ? null : pick(vendorList);
+            Component component = new Component();
+            component.setId(id("c", i));
+            component.setName("component-" + i);
+            component.setDescription("Synthetic component " + i);
+            component.setComponentType(pick(ComponentType.values()));
+            component.setCreatedBy(pick(emails));
+            component.setCreatedOn("2017-01-01");
+            component.setModerators(pickSet(emails, 3));
+            Set<String> componentReleaseIds = new HashSet<>();
+            if (vendor != null) {
+                component.setVendorNames(new HashSet<>(Collections.singleton(vendor.getFullname())));
+            }
+
+            for (int j = 0; j < releasesPerComponent; j++) {
+                Release release = new Release();
+                release.setId(id("r", i * releasesPerComponent + j));
+                release.setName(component.getName());
+                release.setVersion("1." + j + ".0");
+                release.setComponentId(component.getId());
+                release.setCpeid("cpe:/a:synthetic:" + component.getName() + ":1." + j + ".0:");
+                release.setClearingState(pick(ClearingState.values()));
+                release.setCreatedBy(pick(emails));
+                release.setCreatedOn("2017-01-01");
+                release.setReleaseDate("2016-12-01");
+                release.setModerators(pickSet(emails, 2));
+                release.setMainLicenseIds(pickSet(licenseIds, 2));
+                release.setAttachments(createAttachments(emails));
+                if (vendor != null) {
+                    release.setVendorId(vendor.getId());
+                    release.setVendor(vendor);
+                }
+                releases.put(release.getId(), release);
+                releaseIds.add(release.getId());
+                componentReleaseIds.add(release.getId());
+            }
+            component.setReleaseIds(componentReleaseIds);
+            components.put(component.getId(), component);
+        }
+
+        for (int i = 0; i < projectCount; i++) {
+            Project project = new Project();
+            project.setId(id("p", i));
+            project.setName("project-" + i);
+            project.setVersion("1.0");
+            project.setDescription("Synthetic project " + i);
+            project.setProjectType(pick(ProjectType.values()));
+            project.setBusinessUnit("BU " + (i % 10));
+            project.setCreatedBy(pick(emails));
+            project.setCreatedOn("2017-01-01");
+            project.setModerators(pickSet(emails, 3));
+            Map<String, ProjectReleaseRelationship> releaseIdToUsage = new HashMap<>();
+            for (String releaseId : pickSet(releaseIds, releasesPerProject)) {
+                releaseIdToUsage.put(releaseId, new ProjectReleaseRelationship(ReleaseRelationship.CONTAINED, MainlineState.MAINLINE));
+            }
+            project.setReleaseIdToUsage(releaseIdToUsage);
+            projects.put(project.getId(), project);
+        }
+
+        log.info("generated {} users, {} vendors, {} licenses, {} components, {} releases and {} projects",
+                usersByEmail.size(), vendors.size(), licenses.size(), components.size(), releases.size(), projects.size());
+    }
+
+    /**
+     * Any email can log in, unknown users are created on their first lookup.
+     */
+    public User getOrCreateUser(String email) {
+        return usersByEmail.computeIfAbsent(email, key -> createUser(key, UserGroup.USER));
+    }
+
+    public String newId() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private User createUser(String email, UserGroup userGroup) {
+        User user = new User();
+        user.setId(email);
+        user.setEmail(email);
+        user.setGivenname("Synthetic");
+        user.setLastname(email.substring(0, email.indexOf('@')));
+        user.setFullname("Synthetic " + user.getLastname());
+        user.setDepartment("SYN DEPT");
+        user.setUserGroup(userGroup);
+        return user;
+    }
+
+    private Set<Attachment> createAttachments(List<String> emails) {
+        Set<Attachment> attachments = new HashSet<>();
+        for (int i = 0; i < attachmentsPerRelease; i++) {
+            Attachment attachment = new Attachment();
+            attachment.setAttachmentContentId(newRandomHex(32));
+            attachment.setFilename("attachment-" + i + ".zip");
+            attachment.setSha1(newRandomHex(40));
+            attachment.setAttachmentType(pick(AttachmentType.values()));
+            attachment.setCreatedBy(pick(emails));
+            attachment.setCreatedOn("2017-01-01");
+            attachments.add(attachment);
+        }
+        return attachments;
+    }
+
+    private String newRandomHex(int length) {
+        StringBuilder hex = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            hex.append(Character.forDigit(random.nextInt(16), 16));
+        }
+        return hex.toString();
+    }
+
+    private static String id(String prefix, int index) {
+        return String.format("%s%07d", prefix, index);
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private <T> Set<T> pickSet(List<T> values, int count) {
+        Set<T> picked = new HashSet<>();
+        for (int i = 0; i < Math.min(count, values.size()) * 2 && picked.size() < count; i++) {
+            picked.add(pick(values));
+        }
+        return picked;
+    }
+}
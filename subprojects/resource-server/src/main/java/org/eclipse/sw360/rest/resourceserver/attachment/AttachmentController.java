@@ -17,6 +17,8 @@ import org.eclipse.sw360.datahandler.thrift.components.Release;
 import org.eclipse.sw360.datahandler.thrift.users.User;
 import org.eclipse.sw360.rest.resourceserver.core.HalResource;
 import org.eclipse.sw360.rest.resourceserver.core.RestControllerHelper;
+import org.eclipse.sw360.rest.resourceserver.core.Sw360Links;
+import org.eclipse.sw360.rest.resourceserver.release.ReleaseController;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.rest.webmvc.BasePathAwareController;
 import org.springframework.data.rest.webmvc.RepositoryLinksResource;
@@ -24,7 +26,6 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.UriTemplate;
-import org.springframework.hateoas.mvc.ControllerLinkBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.provider.OAuth2Authentication;
@@ -32,8 +33,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-
 @BasePathAwareController
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
@@ -93,7 +92,7 @@ public class AttachmentController implements ResourceProcessor<RepositoryLinksRe
         HalResource<Attachment> halAttachment = new HalResource<>(sw360Attachment);
         String componentUUID = sw360Attachment.getAttachmentContentId();
 
-        Link releaseLink = linkTo(AttachmentController.class).slash("api/releases/" + sw360Release.getId()).withRel("release");
+        Link releaseLink = Sw360Links.current().link(ReleaseController.RELEASES_URL, sw360Release.getId(), "release");
         halAttachment.add(releaseLink);
 
         restControllerHelper.addEmbeddedRelease(halAttachment, sw360Release, "release");
@@ -104,8 +103,7 @@ public class AttachmentController implements ResourceProcessor<RepositoryLinksRe
 
     @Override
     public RepositoryLinksResource process(RepositoryLinksResource resource) {
-        final ControllerLinkBuilder controllerLinkBuilder = linkTo(AttachmentController.class);
-        final Link attachments = new Link(new UriTemplate(controllerLinkBuilder.toUri().toString() + "/api/attachments{?sha1}"), "attachments");
+        final Link attachments = new Link(new UriTemplate(Sw360Links.current().href(ATTACHMENTS_URL) + "{?sha1}"), "attachments");
         resource.add(attachments);
         return resource;
     }
@@ -0,0 +1,170 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.attachment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.thrift.TException;
+import org.eclipse.sw360.datahandler.thrift.attachments.Attachment;
+import org.eclipse.sw360.datahandler.thrift.components.ComponentService;
+import org.eclipse.sw360.datahandler.thrift.components.Release;
+import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.rest.resourceserver.thrift.ThriftClientPools;
+import org.eclipse.sw360.rest.resourceserver.user.Sw360UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Maps attachment sha1 sums and attachment content ids to the attachment
+ * and the id of the release owning it. The index is built from the release
+ * summary as seen by the warm-up user, at startup and periodically. Without
+ * a warm-up user there is no index. Attachments found by the full scan of
+ * {@link Sw360AttachmentService} on a miss are added to it.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class AttachmentIndex {
+    @Value("${sw360.attachment-index.max-entries:200000}")
+    private int maxEntries;
+
+    @Value("${sw360.attachment-index.warm-up-user:}")
+    private String warmUpUserEmail;
+
+    @NonNull
+    private final ThriftClientPools thriftClientPools;
+
+    @NonNull
+    private final Sw360UserService userService;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${sw360.attachment-index.refresh-millis:600000}",
+            fixedDelayString = "${sw360.attachment-index.refresh-millis:600000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * @return the entry of the attachment with the sha1, or null if it is not indexed
+     */
+    Entry findBySha1(String sha1) {
+        Snapshot currentSnapshot = snapshot;
+        return currentSnapshot != null ? currentSnapshot.bySha1.get(sha1) : null;
+    }
+
+    /**
+     * @return the entry of the attachment with the content id, or null if it is not indexed
+     */
+    Entry findByAttachmentContentId(String attachmentContentId) {
+        Snapshot currentSnapshot = snapshot;
+        return currentSnapshot != null ? currentSnapshot.byAttachmentContentId.get(attachmentContentId) : null;
+    }
+
+    /**
+     * Adds an attachment that was found without the index, e.g. one uploaded since the last refresh.
+     */
+    void add(String releaseId, Attachment attachment) {
+        Snapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null) {
+            currentSnapshot.add(new Entry(releaseId, new Attachment(attachment)), maxEntries);
+        }
+    }
+
+    /**
+     * Drops an entry whose attachment is no longer part of its release.
+     */
+    void remove(Entry entry) {
+        Snapshot currentSnapshot = snapshot;
+        if (currentSnapshot == null) {
+            return;
+        }
+        Attachment attachment = entry.getAttachment();
+        if (attachment.getSha1() != null) {
+            currentSnapshot.bySha1.remove(attachment.getSha1(), entry);
+        }
+        if (attachment.getAttachmentContentId() != null) {
+            currentSnapshot.byAttachmentContentId.remove(attachment.getAttachmentContentId(), entry);
+        }
+    }
+
+    synchronized void refresh() {
+        if (warmUpUserEmail.isEmpty()) {
+            return;
+        }
+        try {
+            User warmUpUser = userService.getUserByEmail(warmUpUserEmail);
+            ComponentService.Iface sw360ComponentClient = thriftClientPools.getComponentClient();
+            Snapshot newSnapshot = new Snapshot();
+            for (Release release : sw360ComponentClient.getReleaseSummary(warmUpUser)) {
+                final Set<Attachment> attachments = release.getAttachments();
+                if (attachments == null) {
+                    continue;
+                }
+                for (Attachment attachment : attachments) {
+                    if (!newSnapshot.add(new Entry(release.getId(), new Attachment(attachment)), maxEntries)) {
+                        log.warn("attachment index is limited to " + maxEntries + " entries, remaining attachments are looked up without it");
+                        snapshot = newSnapshot;
+                        return;
+                    }
+                }
+            }
+            snapshot = newSnapshot;
+        } catch (TException | RuntimeException e) {
+            log.warn("cannot refresh attachment index: " + e.getMessage());
+        }
+    }
+
+    // concurrent maps, since entries are added and removed while the snapshot is read
+    private static class Snapshot {
+        private final Map<String, Entry> bySha1 = new ConcurrentHashMap<>();
+        private final Map<String, Entry> byAttachmentContentId = new ConcurrentHashMap<>();
+        private final AtomicInteger entries = new AtomicInteger();
+
+        private boolean add(Entry entry, int maxEntries) {
+            if (entries.incrementAndGet() > maxEntries) {
+                entries.decrementAndGet();
+                return false;
+            }
+            Attachment attachment = entry.getAttachment();
+            if (attachment.getSha1() != null) {
+                bySha1.putIfAbsent(attachment.getSha1(), entry);
+            }
+            if (attachment.getAttachmentContentId() != null) {
+                byAttachmentContentId.put(attachment.getAttachmentContentId(), entry);
+            }
+            return true;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Entry {
+        private final String releaseId;
+        private final Attachment attachment;
+    }
+}
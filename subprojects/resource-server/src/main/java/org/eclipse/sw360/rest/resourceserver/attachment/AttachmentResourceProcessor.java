@@ -11,13 +11,12 @@ package org.eclipse.sw360.rest.resourceserver.attachment;
 
 import lombok.RequiredArgsConstructor;
 import org.eclipse.sw360.datahandler.thrift.attachments.Attachment;
+import org.eclipse.sw360.rest.resourceserver.core.Sw360Links;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-
 @Component
 @RequiredArgsConstructor
 class AttachmentResourceProcessor implements ResourceProcessor<Resource<Attachment>> {
@@ -25,8 +24,7 @@ class AttachmentResourceProcessor implements ResourceProcessor<Resource<Attachme
     @Override
     public Resource<Attachment> process(Resource<Attachment> resource) {
         Attachment attachment = resource.getContent();
-        Link selfLink = linkTo(AttachmentController.class)
-                .slash("api" + AttachmentController.ATTACHMENTS_URL + "/" + attachment.getAttachmentContentId()).withSelfRel();
+        Link selfLink = Sw360Links.current().selfLink(AttachmentController.ATTACHMENTS_URL, attachment.getAttachmentContentId());
         resource.add(selfLink);
         return resource;
     }
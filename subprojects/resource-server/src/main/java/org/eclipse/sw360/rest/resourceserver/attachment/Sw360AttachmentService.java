@@ -9,45 +9,33 @@
 
 package org.eclipse.sw360.rest.resourceserver.attachment;
 
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TCompactProtocol;
-import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.THttpClient;
-import org.apache.thrift.transport.TTransportException;
 import org.eclipse.sw360.datahandler.thrift.attachments.Attachment;
 import org.eclipse.sw360.datahandler.thrift.components.ComponentService;
 import org.eclipse.sw360.datahandler.thrift.components.Release;
 import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.rest.resourceserver.thrift.ThriftClientPools;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Set;
+import java.util.function.Predicate;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class Sw360AttachmentService {
-    @Value("${sw360.thrift-server-url:http://localhost:8080}")
-    private String thriftServerUrl;
+    @NonNull
+    private final ThriftClientPools thriftClientPools;
+
+    @NonNull
+    private final AttachmentIndex attachmentIndex;
 
     public AttachmentInfo getAttachmentBySha1ForUser(String sha1, User sw360User) {
         try {
-            ComponentService.Iface sw360ComponentClient = getThriftComponentClient();
-            List<Release> releases = sw360ComponentClient.getReleaseSummary(sw360User);
-            for (Release release : releases) {
-                final Set<Attachment> attachments = release.getAttachments();
-                if (attachments != null && attachments.size() > 0) {
-                    for (Attachment attachment : attachments) {
-                        if (sha1.equals(attachment.getSha1())) {
-                            return new AttachmentInfo(attachment, release);
-                        }
-                    }
-                }
-            }
+            return findAttachment(attachmentIndex.findBySha1(sha1), attachment -> sha1.equals(attachment.getSha1()), sw360User);
         } catch (TException e) {
             log.error("Cannot get attachment from sw360 with sha1: " + sha1);
         }
@@ -56,27 +44,58 @@ public class Sw360AttachmentService {
 
     public AttachmentInfo getAttachmentByIdForUser(String id, User sw360User) {
         try {
-            ComponentService.Iface sw360ComponentClient = getThriftComponentClient();
-            List<Release> releases = sw360ComponentClient.getReleaseSummary(sw360User);
-            for (Release release : releases) {
-                final Set<Attachment> attachments = release.getAttachments();
-                if (attachments != null && attachments.size() > 0) {
-                    for (Attachment attachment : attachments) {
-                        if (id.equals(attachment.getAttachmentContentId())) {
-                            return new AttachmentInfo(attachment, release);
-                        }
-                    }
-                }
-            }
+            return findAttachment(attachmentIndex.findByAttachmentContentId(id),
+                    attachment -> id.equals(attachment.getAttachmentContentId()), sw360User);
         } catch (TException e) {
             log.error("Cannot get attachment from sw360 with id: " + id);
         }
         return null;
     }
 
-    private ComponentService.Iface getThriftComponentClient() throws TTransportException {
-        THttpClient thriftClient = new THttpClient(thriftServerUrl + "/components/thrift");
-        TProtocol protocol = new TCompactProtocol(thriftClient);
-        return new ComponentService.Client(protocol);
+    /**
+     * The index may be stale, so an indexed attachment is taken from its freshly loaded release. If the release
+     * no longer contains it, or the attachment is not indexed, all releases of the user are searched.
+     */
+    private AttachmentInfo findAttachment(AttachmentIndex.Entry entry, Predicate<Attachment> matches, User sw360User)
+            throws TException {
+        ComponentService.Iface sw360ComponentClient = getThriftComponentClient();
+        if (entry != null) {
+            try {
+                Release release = sw360ComponentClient.getReleaseById(entry.getReleaseId(), sw360User);
+                Attachment attachment = findInRelease(release, matches);
+                if (attachment != null) {
+                    return new AttachmentInfo(new Attachment(attachment), release);
+                }
+                attachmentIndex.remove(entry);
+            } catch (TException e) {
+                // e.g. the release is not visible to the user, the search below only covers the visible releases
+                log.debug("cannot load indexed release " + entry.getReleaseId() + ": " + e.getMessage());
+            }
+        }
+
+        for (Release release : sw360ComponentClient.getReleaseSummary(sw360User)) {
+            Attachment attachment = findInRelease(release, matches);
+            if (attachment != null) {
+                attachmentIndex.add(release.getId(), attachment);
+                return new AttachmentInfo(attachment, release);
+            }
+        }
+        return null;
+    }
+
+    private static Attachment findInRelease(Release release, Predicate<Attachment> matches) {
+        if (release == null || release.getAttachments() == null) {
+            return null;
+        }
+        for (Attachment attachment : release.getAttachments()) {
+            if (matches.test(attachment)) {
+                return attachment;
+            }
+        }
+        return null;
+    }
+
+    private ComponentService.Iface getThriftComponentClient() {
+        return thriftClientPools.getComponentClient();
     }
 }
@@ -12,17 +12,29 @@ package org.eclipse.sw360.rest.resourceserver.component;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.thrift.TException;
+import org.apache.thrift.transport.TTransportException;
 import org.eclipse.sw360.datahandler.thrift.components.Component;
 import org.eclipse.sw360.datahandler.thrift.components.Release;
 import org.eclipse.sw360.datahandler.thrift.users.User;
 import org.eclipse.sw360.datahandler.thrift.vendors.Vendor;
+import org.eclipse.sw360.rest.resourceserver.core.BadRequestException;
+import org.eclipse.sw360.rest.resourceserver.core.BulkItemStatus;
+import org.eclipse.sw360.rest.resourceserver.core.EmbeddingBatch;
 import org.eclipse.sw360.rest.resourceserver.core.HalResource;
+import org.eclipse.sw360.rest.resourceserver.core.NdjsonResponseFactory;
+import org.eclipse.sw360.rest.resourceserver.core.ResourceSelection;
 import org.eclipse.sw360.rest.resourceserver.core.RestControllerHelper;
+import org.eclipse.sw360.rest.resourceserver.core.SelectedFieldsFilter;
+import org.eclipse.sw360.rest.resourceserver.core.Sw360Links;
+import org.eclipse.sw360.rest.resourceserver.job.Job;
+import org.eclipse.sw360.rest.resourceserver.job.JobService;
 import org.eclipse.sw360.rest.resourceserver.release.Sw360ReleaseService;
 import org.eclipse.sw360.rest.resourceserver.vendor.Sw360VendorService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.rest.webmvc.BasePathAwareController;
 import org.springframework.data.rest.webmvc.RepositoryLinksResource;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.Resources;
@@ -33,6 +45,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -40,9 +56,10 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 @BasePathAwareController
 @Slf4j
@@ -62,37 +79,62 @@ public class ComponentController implements ResourceProcessor<RepositoryLinksRes
     @NonNull
     private final RestControllerHelper restControllerHelper;
 
+    @NonNull
+    private final NdjsonResponseFactory ndjsonResponseFactory;
+
+    @NonNull
+    private final JobService jobService;
+
     @RequestMapping(value = COMPONENTS_URL)
-    public ResponseEntity<Resources<Resource<Component>>> getComponents(OAuth2Authentication oAuth2Authentication) {
+    public DeferredResult<ResponseEntity<Resources<Resource<ComponentSummary>>>> getComponents(
+            OAuth2Authentication oAuth2Authentication,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "fields", required = false) String fields,
+            WebRequest webRequest) {
+        return restControllerHelper.defer(() -> {
+            User user = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
+            List<Component> components = componentService.getComponentsForUser(user);
+
+            ResourceSelection selection = ResourceSelection.of(fields, null);
+            if (restControllerHelper.isNotModified(webRequest, components, page, size, selection,
+                    Component::getId, Component::getRevision)) {
+                return null;
+            }
+            String componentsHref = Sw360Links.current().href(COMPONENTS_URL);
+            Resources<Resource<ComponentSummary>> resources = restControllerHelper.createResources(components, page, size,
+                    component -> createSummaryResource(component, componentsHref, selection));
+
+            return new ResponseEntity<>(resources, HttpStatus.OK);
+        });
+    }
+
+    @RequestMapping(value = COMPONENTS_URL, produces = NdjsonResponseFactory.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamComponents(OAuth2Authentication oAuth2Authentication) {
         User user = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
         List<Component> components = componentService.getComponentsForUser(user);
 
-        List<Resource<Component>> componentResources = new ArrayList<>();
-        for (Component component : components) {
-            // TODO Kai Tödter 2017-01-04
-            // Find better way to decrease details in list resources,
-            // e.g. apply projections or Jackson Mixins
-            component.setDescription(null);
-            component.setType(null);
-            component.setCreatedOn(null);
-            component.setVendorNames(null);
-            component.setReleaseIds(null);
-
-            Resource<Component> componentResource = new Resource<>(component);
-            componentResources.add(componentResource);
-        }
-        Resources<Resource<Component>> resources = new Resources<>(componentResources);
-
-        return new ResponseEntity<>(resources, HttpStatus.OK);
+        String componentsHref = Sw360Links.current().href(COMPONENTS_URL);
+        return ndjsonResponseFactory.createResponse(components,
+                component -> createSummaryResource(component, componentsHref, ResourceSelection.ALL));
     }
 
     @RequestMapping(COMPONENTS_URL + "/{id}")
-    public ResponseEntity<Resource<Component>> getComponent(
-            @PathVariable("id") String id, OAuth2Authentication oAuth2Authentication) {
-        User user = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
-        Component sw360Component = componentService.getComponentForUserById(id, user);
-        HalResource<Component> userHalResource = createHalComponent(sw360Component, user);
-        return new ResponseEntity<>(userHalResource, HttpStatus.OK);
+    public DeferredResult<ResponseEntity<Resource<Component>>> getComponent(
+            @PathVariable("id") String id, OAuth2Authentication oAuth2Authentication,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestParam(value = "embed", required = false) String embed,
+            WebRequest webRequest) {
+        return restControllerHelper.defer(() -> {
+            User user = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
+            Component sw360Component = componentService.getComponentForUserById(id, user);
+            ResourceSelection selection = ResourceSelection.of(fields, embed);
+            if (restControllerHelper.isNotModified(webRequest, sw360Component.getRevision(), selection)) {
+                return null;
+            }
+            HalResource<Component> userHalResource = createHalComponent(sw360Component, user, selection);
+            return new ResponseEntity<>(userHalResource, HttpStatus.OK);
+        });
     }
 
     @RequestMapping(value = COMPONENTS_URL, method = RequestMethod.POST)
@@ -116,7 +158,7 @@ public class ComponentController implements ResourceProcessor<RepositoryLinksRes
         }
 
         Component sw360Component = componentService.createComponent(component, user);
-        HalResource<Component> halResource = createHalComponent(sw360Component, user);
+        HalResource<Component> halResource = createHalComponent(sw360Component, user, ResourceSelection.ALL);
 
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequest().path("/{id}")
@@ -125,38 +167,110 @@ public class ComponentController implements ResourceProcessor<RepositoryLinksRes
         return ResponseEntity.created(location).body(halResource);
     }
 
+    @RequestMapping(value = COMPONENTS_URL + "/bulk", method = RequestMethod.POST)
+    public ResponseEntity<?> createComponents(
+            OAuth2Authentication oAuth2Authentication,
+            @RequestParam(value = "async", defaultValue = "false") boolean async,
+            @RequestBody List<Component> components) {
+        User user = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
+        String componentsHref = Sw360Links.current().href(COMPONENTS_URL);
+
+        // each vendor is looked up once, however many components of the request refer to it
+        Map<String, String> vendorFullNamesByUri = new ConcurrentHashMap<>();
+        Function<Component, BulkItemStatus> creation = component ->
+            restControllerHelper.createBulkItem(() -> {
+                if (component.getVendorNames() != null) {
+                    Set<String> vendors = new HashSet<>();
+                    for (String vendorUriString : component.getVendorNames()) {
+                        String vendorFullName = vendorFullNamesByUri.get(vendorUriString);
+                        if (vendorFullName == null) {
+                            vendorFullName = getVendorFullName(vendorUriString);
+                            vendorFullNamesByUri.put(vendorUriString, vendorFullName);
+                        }
+                        vendors.add(vendorFullName);
+                    }
+                    component.setVendorNames(vendors);
+                }
+                Component sw360Component = componentService.createComponent(component, user);
+                return sw360Component != null ? sw360Component.getId() : null;
+            }, componentsHref);
+
+        if (async) {
+            Job job = jobService.submit("createComponents", user, () -> components, creation);
+            return restControllerHelper.createJobAcceptedResponse(job);
+        }
+        List<BulkItemStatus> statuses = new ArrayList<>(components.size());
+        for (Component component : components) {
+            statuses.add(creation.apply(component));
+        }
+        return new ResponseEntity<>(statuses, HttpStatus.OK);
+    }
+
+    /**
+     * Returns the full name of the vendor with the given URI, an unknown vendor is a bad request item.
+     * Failures to reach the vendor service are passed on.
+     */
+    private String getVendorFullName(String vendorUriString) throws URISyntaxException {
+        Vendor vendor;
+        try {
+            vendor = vendorService.getVendorById(restControllerHelper.getIdFromUri(vendorUriString));
+        } catch (RuntimeException e) {
+            if (!(e.getCause() instanceof TException) || e.getCause() instanceof TTransportException) {
+                throw e;
+            }
+            vendor = null;
+        }
+        if (vendor == null || vendor.getFullname() == null) {
+            throw new BadRequestException("unknown vendor " + vendorUriString);
+        }
+        return vendor.getFullname();
+    }
+
     @Override
     public RepositoryLinksResource process(RepositoryLinksResource resource) {
-        resource.add(linkTo(ComponentController.class).slash("api/components").withRel("components"));
+        resource.add(Sw360Links.current().collectionLink(COMPONENTS_URL, "components"));
         return resource;
     }
 
-    private HalResource<Component> createHalComponent(Component sw360Component, User user) {
+    private Resource<ComponentSummary> createSummaryResource(Component component, String componentsHref, ResourceSelection selection) {
+        ComponentSummary componentSummary = ComponentSummary.from(component);
+        SelectedFieldsFilter.select(componentSummary, selection);
+        return new Resource<>(componentSummary, new Link(componentsHref + "/" + component.getId()));
+    }
+
+    private HalResource<Component> createHalComponent(Component sw360Component, User user, ResourceSelection selection) {
         HalResource<Component> halComponent = new HalResource<>(sw360Component);
+        SelectedFieldsFilter.select(sw360Component, selection);
+        EmbeddingBatch embeddingBatch = restControllerHelper.newEmbeddingBatch();
 
-        if (sw360Component.getReleaseIds() != null) {
+        if (sw360Component.getReleaseIds() != null && selection.embeds("releases")) {
             Set<String> releases = sw360Component.getReleaseIds();
-            restControllerHelper.addEmbeddedReleases(halComponent, releases, releaseService, user, "releases");
+            restControllerHelper.addEmbeddedReleases(embeddingBatch, halComponent, releases, releaseService, user, "releases");
         }
 
-        if (sw360Component.getReleases() != null) {
+        if (sw360Component.getReleases() != null && selection.embeds("releases")) {
             List<Release> releases = sw360Component.getReleases();
             restControllerHelper.addEmbeddedReleases(halComponent, releases);
         }
 
-        if (sw360Component.getModerators() != null) {
+        if (sw360Component.getModerators() != null && selection.embeds("moderators")) {
             Set<String> moderators = sw360Component.getModerators();
             restControllerHelper.addEmbeddedModerators(halComponent, moderators);
         }
 
         if (sw360Component.getVendorNames() != null) {
-            Set<String> vendors = sw360Component.getVendorNames();
-            restControllerHelper.addEmbeddedVendors(halComponent, vendors);
+            if (selection.embeds("vendors")) {
+                Set<String> vendors = sw360Component.getVendorNames();
+                restControllerHelper.addEmbeddedVendors(embeddingBatch, halComponent, vendors);
+            }
             sw360Component.setVendorNames(null);
         }
 
-        restControllerHelper.addEmbeddedUser(halComponent, user, "createdBy");
+        if (selection.embeds("createdBy")) {
+            restControllerHelper.addEmbeddedUser(halComponent, user, "createdBy");
+        }
 
+        embeddingBatch.resolve();
         return halComponent;
     }
 }
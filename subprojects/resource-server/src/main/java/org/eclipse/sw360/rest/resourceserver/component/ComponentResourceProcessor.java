@@ -10,13 +10,12 @@
 package org.eclipse.sw360.rest.resourceserver.component;
 
 import lombok.RequiredArgsConstructor;
+import org.eclipse.sw360.rest.resourceserver.core.Sw360Links;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.eclipse.sw360.datahandler.thrift.components.Component;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-
 @org.springframework.stereotype.Component
 @RequiredArgsConstructor
 class ComponentResourceProcessor implements ResourceProcessor<Resource<Component>> {
@@ -24,8 +23,7 @@ class ComponentResourceProcessor implements ResourceProcessor<Resource<Component
     @Override
     public Resource<Component> process(Resource<Component> resource) {
         Component component = resource.getContent();
-        Link selfLink = linkTo(ComponentController.class)
-                .slash("api" + ComponentController.COMPONENTS_URL + "/" + component.getId()).withSelfRel();
+        Link selfLink = Sw360Links.current().selfLink(ComponentController.COMPONENTS_URL, component.getId());
         resource.add(selfLink);
         return resource;
     }
@@ -9,19 +9,18 @@
 
 package org.eclipse.sw360.rest.resourceserver.component;
 
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TCompactProtocol;
-import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.THttpClient;
-import org.apache.thrift.transport.TTransportException;
 import org.eclipse.sw360.datahandler.thrift.AddDocumentRequestStatus;
 import org.eclipse.sw360.datahandler.thrift.AddDocumentRequestSummary;
 import org.eclipse.sw360.datahandler.thrift.components.Component;
 import org.eclipse.sw360.datahandler.thrift.components.ComponentService;
 import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.rest.resourceserver.thrift.ThriftClientPools;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
@@ -30,9 +29,12 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class Sw360ComponentService {
-    @Value("${sw360.thrift-server-url:http://localhost:8080}")
-    private String thriftServerUrl;
+    public static final String COMPONENTS_CACHE = "components";
 
+    @NonNull
+    private final ThriftClientPools thriftClientPools;
+
+    @Cacheable(cacheNames = COMPONENTS_CACHE, key = "#sw360User.email")
     public List<Component> getComponentsForUser(User sw360User) {
         try {
             ComponentService.Iface sw360ComponentClient = getThriftComponentClient();
@@ -51,6 +53,7 @@ public class Sw360ComponentService {
         }
     }
 
+    @CacheEvict(cacheNames = COMPONENTS_CACHE, allEntries = true)
     public Component createComponent(Component component, User sw360User) {
         try {
             ComponentService.Iface sw360ComponentClient = getThriftComponentClient();
@@ -67,9 +70,7 @@ public class Sw360ComponentService {
         return null;
     }
 
-    private ComponentService.Iface getThriftComponentClient() throws TTransportException {
-        THttpClient thriftClient = new THttpClient(thriftServerUrl + "/components/thrift");
-        TProtocol protocol = new TCompactProtocol(thriftClient);
-        return new ComponentService.Client(protocol);
+    private ComponentService.Iface getThriftComponentClient() {
+        return thriftClientPools.getComponentClient();
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Value;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The outcome for one item of a bulk request, in the order of the request items.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemStatus {
+    int status;
+    String id;
+    String href;
+    String message;
+
+    public static BulkItemStatus created(String id, String href) {
+        return new BulkItemStatus(HttpStatus.CREATED.value(), id, href, null);
+    }
+
+    public static BulkItemStatus deleted(String id) {
+        return new BulkItemStatus(HttpStatus.NO_CONTENT.value(), id, null, null);
+    }
+
+    public static BulkItemStatus failed(HttpStatus httpStatus, String message) {
+        return failed(null, httpStatus, message);
+    }
+
+    public static BulkItemStatus failed(String id, HttpStatus httpStatus, String message) {
+        return new BulkItemStatus(httpStatus.value(), id, null, message);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.eclipse.sw360.rest.resourceserver.component.Sw360ComponentService;
+import org.eclipse.sw360.rest.resourceserver.license.Sw360LicenseService;
+import org.eclipse.sw360.rest.resourceserver.project.Sw360ProjectService;
+import org.eclipse.sw360.rest.resourceserver.release.Sw360ReleaseService;
+import org.eclipse.sw360.rest.resourceserver.security.CachingTokenServices;
+import org.eclipse.sw360.rest.resourceserver.user.Sw360UserService;
+import org.eclipse.sw360.rest.resourceserver.vendor.Sw360VendorService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+class CacheConfiguration {
+    // statistics are always recorded, they are published as cache metrics by the actuator
+    @Value("${sw360.cache.users.spec:maximumSize=1000,expireAfterWrite=300s}")
+    private String usersCacheSpec;
+
+    // the summary lists back the collection endpoints, so paging through them does not query the backend again
+    @Value("${sw360.cache.summaries.spec:maximumSize=50,expireAfterWrite=60s}")
+    private String summariesCacheSpec;
+
+    // verified access tokens, an entry is not used after the expiry of its token even if the spec allows it
+    @Value("${sw360.cache.tokens.spec:maximumSize=10000,expireAfterWrite=3600s}")
+    private String tokensCacheSpec;
+
+    @Bean
+    public CacheManager cacheManager() {
+        List<Cache> caches = new ArrayList<>();
+        caches.add(createCache(Sw360UserService.USERS_CACHE, usersCacheSpec));
+        caches.add(createCache(Sw360UserService.ALL_USERS_CACHE, summariesCacheSpec));
+        caches.add(createCache(Sw360ProjectService.PROJECTS_CACHE, summariesCacheSpec));
+        caches.add(createCache(Sw360ComponentService.COMPONENTS_CACHE, summariesCacheSpec));
+        caches.add(createCache(Sw360ReleaseService.RELEASES_CACHE, summariesCacheSpec));
+        caches.add(createCache(Sw360VendorService.VENDORS_CACHE, summariesCacheSpec));
+        caches.add(createCache(Sw360LicenseService.LICENSES_CACHE, summariesCacheSpec));
+        caches.add(createCache(CachingTokenServices.TOKENS_CACHE, tokensCacheSpec));
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+
+    private Cache createCache(String name, String spec) {
+        return new CaffeineCache(name, Caffeine.from(spec).recordStats().build());
+    }
+}
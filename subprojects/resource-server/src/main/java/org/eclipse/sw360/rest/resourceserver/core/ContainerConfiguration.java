@@ -0,0 +1,39 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.embedded.EmbeddedServletContainerCustomizer;
+import org.springframework.boot.context.embedded.tomcat.TomcatEmbeddedServletContainerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+class ContainerConfiguration {
+
+    /**
+     * Lets clients upgrade plain http connections to HTTP/2 (h2c), so the many follow-up requests
+     * of link traversal are multiplexed on one connection. Over TLS, HTTP/2 is negotiated with ALPN instead.
+     */
+    @Bean
+    @ConditionalOnClass(Http2Protocol.class)
+    @ConditionalOnProperty(name = "sw360.http2.enabled", matchIfMissing = true)
+    public EmbeddedServletContainerCustomizer http2Customizer() {
+        return container -> {
+            if (container instanceof TomcatEmbeddedServletContainerFactory) {
+                ((TomcatEmbeddedServletContainerFactory) container)
+                        .addConnectorCustomizers(connector -> connector.addUpgradeProtocol(new Http2Protocol()));
+            }
+        };
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * Lists the relations that were embedded as stubs, because their lookup failed or took too long,
+ * in the {@value EmbeddingBatch#DEGRADED_HEADER} header, e.g. "licenses, vendor".
+ * Such a response is not cached, it has no ETag. Complete responses get the ETag of their resource.
+ */
+@ControllerAdvice
+public class DegradedEmbeddingResponseAdvice implements ResponseBodyAdvice<Object> {
+    static final String ETAG_ATTRIBUTE = DegradedEmbeddingResponseAdvice.class.getName() + ".eTag";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        Set<String> degradedRelations = EmbeddingBatch.getDegradedRelations();
+        if (degradedRelations != null && !degradedRelations.isEmpty()) {
+            response.getHeaders().set(EmbeddingBatch.DEGRADED_HEADER, String.join(", ", degradedRelations));
+            response.getHeaders().setCacheControl("no-store");
+        } else if (request instanceof ServletServerHttpRequest && response instanceof ServletServerHttpResponse) {
+            Object eTag = ((ServletServerHttpRequest) request).getServletRequest().getAttribute(ETAG_ATTRIBUTE);
+            // error responses of a request that computed its ETag do not get it
+            if (eTag != null && ((ServletServerHttpResponse) response).getServletResponse().getStatus() == HttpStatus.OK.value()) {
+                response.getHeaders().setETag((String) eTag);
+            }
+        }
+        return body;
+    }
+}
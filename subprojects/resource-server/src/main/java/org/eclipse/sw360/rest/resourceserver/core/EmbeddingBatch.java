@@ -0,0 +1,187 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Collects the backend lookups of one request and resolves them together.
+ * The lookups run on the embedding executor, at most maxConcurrency at a time.
+ * The results are embedded on the calling thread in the order the lookups were added,
+ * so HAL resources are never modified concurrently.
+ * <p>
+ * A lookup that fails, finds nothing or is not finished within the timeout of the batch does not fail the request.
+ * Its fallback embeds a stub instead and the relation is reported in the {@value #DEGRADED_HEADER} header.
+ */
+@Slf4j
+public class EmbeddingBatch {
+    public static final String DEGRADED_HEADER = "Sw360-Degraded-Embeddings";
+    private static final String DEGRADED_ATTRIBUTE = EmbeddingBatch.class.getName() + ".degraded";
+
+    private final AsyncTaskExecutor executor;
+    private final int maxConcurrency;
+    private final long timeoutMillis;
+    private final List<Lookup<?>> lookups = new ArrayList<>();
+
+    EmbeddingBatch(AsyncTaskExecutor executor, int maxConcurrency, long timeoutMillis) {
+        this.executor = executor;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * @param relation the relation the result is embedded as
+     * @param fallback embeds a stub if the lookup fails or takes too long
+     */
+    public <R> void add(String relation, Supplier<R> lookup, Consumer<R> embedder, Runnable fallback) {
+        lookups.add(new Lookup<>(relation, lookup, embedder, fallback));
+    }
+
+    public void resolve() {
+        if (!lookups.isEmpty()) {
+            runInLanes();
+        }
+
+        for (Lookup<?> lookup : lookups) {
+            if (lookup.isDone()) {
+                lookup.embed();
+            } else {
+                log.warn("embedding {} degraded: {}", lookup.relation,
+                        lookup.failure != null ? lookup.failure.toString() : "no result within " + timeoutMillis + " ms");
+                lookup.fallback.run();
+                addDegradedRelation(lookup.relation);
+            }
+        }
+        lookups.clear();
+    }
+
+    /**
+     * @return the relations of the current request that were embedded as stubs, or null if there are none
+     */
+    @SuppressWarnings("unchecked")
+    static Set<String> getDegradedRelations() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return requestAttributes != null
+                ? (Set<String>) requestAttributes.getAttribute(DEGRADED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+    }
+
+    private static void addDegradedRelation(String relation) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return;
+        }
+        Set<String> degradedRelations = getDegradedRelations();
+        if (degradedRelations == null) {
+            degradedRelations = new TreeSet<>();
+            requestAttributes.setAttribute(DEGRADED_ATTRIBUTE, degradedRelations, RequestAttributes.SCOPE_REQUEST);
+        }
+        degradedRelations.add(relation);
+    }
+
+    private void runInLanes() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        // a lane blocked in backend I/O cannot be stopped, it must not see the list being cleared
+        List<Lookup<?>> laneLookups = new ArrayList<>(lookups);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        int laneCount = Math.min(maxConcurrency, laneLookups.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<Future<?>> lanes = new ArrayList<>(laneCount);
+        for (int lane = 0; lane < laneCount; lane++) {
+            final int firstLookup = lane;
+            lanes.add(executor.submit(() -> {
+                RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                try {
+                    // lookups that would start after the deadline are left to their fallback
+                    for (int i = firstLookup; i < laneLookups.size(); i += laneCount) {
+                        if (cancelled.get() || deadline - System.nanoTime() <= 0) {
+                            break;
+                        }
+                        laneLookups.get(i).run();
+                    }
+                } finally {
+                    RequestContextHolder.setRequestAttributes(previousAttributes);
+                }
+            }));
+        }
+
+        try {
+            for (Future<?> lane : lanes) {
+                lane.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            // the unfinished lookups are embedded as stubs
+            cancelled.set(true);
+            lanes.forEach(lane -> lane.cancel(true));
+        } catch (InterruptedException e) {
+            cancelled.set(true);
+            lanes.forEach(lane -> lane.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private static class Lookup<R> {
+        private final String relation;
+        private final Supplier<R> lookup;
+        private final Consumer<R> embedder;
+        private final Runnable fallback;
+        private R result;
+        private volatile RuntimeException failure;
+        // written after the result, so a lookup that is done can be embedded even if its lane was cancelled
+        private volatile boolean done;
+
+        Lookup(String relation, Supplier<R> lookup, Consumer<R> embedder, Runnable fallback) {
+            this.relation = relation;
+            this.lookup = lookup;
+            this.embedder = embedder;
+            this.fallback = fallback;
+        }
+
+        void run() {
+            try {
+                result = lookup.get();
+                if (result == null) {
+                    failure = new IllegalStateException("nothing found");
+                } else {
+                    done = true;
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        boolean isDone() {
+            return done;
+        }
+
+        void embed() {
+            embedder.accept(result);
+        }
+    }
+}
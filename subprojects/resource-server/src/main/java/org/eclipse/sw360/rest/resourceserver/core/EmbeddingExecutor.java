@@ -0,0 +1,61 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Runs the backend lookups needed for embedded HAL resources in parallel.
+ * Each request gets its own {@link EmbeddingBatch}, which limits how many
+ * lookups of that request run at the same time and how long they may take.
+ */
+@Component
+public class EmbeddingExecutor implements DisposableBean {
+    @Value("${sw360.embedding.pool-size:16}")
+    private int poolSize;
+
+    @Value("${sw360.embedding.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${sw360.embedding.max-concurrency-per-request:4}")
+    private int maxConcurrencyPerRequest;
+
+    @Value("${sw360.embedding.timeout-millis:10000}")
+    private long timeoutMillis;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sw360-embedding-");
+        // when the pool is saturated, the request thread resolves its embeddings itself
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+    }
+
+    public EmbeddingBatch newBatch() {
+        return new EmbeddingBatch(executor, maxConcurrencyPerRequest, timeoutMillis);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
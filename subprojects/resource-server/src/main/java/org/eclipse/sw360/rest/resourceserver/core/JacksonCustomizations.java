@@ -9,11 +9,13 @@
 
 package org.eclipse.sw360.rest.resourceserver.core;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import org.eclipse.sw360.datahandler.thrift.attachments.Attachment;
 import org.eclipse.sw360.datahandler.thrift.components.Component;
 import org.eclipse.sw360.datahandler.thrift.components.Release;
@@ -21,6 +23,7 @@ import org.eclipse.sw360.datahandler.thrift.licenses.License;
 import org.eclipse.sw360.datahandler.thrift.projects.Project;
 import org.eclipse.sw360.datahandler.thrift.users.User;
 import org.eclipse.sw360.datahandler.thrift.vendors.Vendor;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -34,6 +37,13 @@ class JacksonCustomizations {
         return new Sw360Module();
     }
 
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sw360FilterCustomizer() {
+        // every mapper writing the filtered types needs the filter, including those of spring data rest
+        return builder -> builder.filters(
+                new SimpleFilterProvider().addFilter(SelectedFieldsFilter.FILTER_ID, new SelectedFieldsFilter()));
+    }
+
     @SuppressWarnings("serial")
     static class Sw360Module extends SimpleModule {
 
@@ -130,6 +140,7 @@ class JacksonCustomizations {
                 "enableSvm",
                 "setEnableSvm"
                 })
+        @JsonFilter(SelectedFieldsFilter.FILTER_ID)
         static abstract class ProjectMixin {
         }
 
@@ -246,6 +257,7 @@ class JacksonCustomizations {
                 "rolesSize",
                 "setRoles"
                 })
+        @JsonFilter(SelectedFieldsFilter.FILTER_ID)
         static abstract class ComponentMixin extends Component {
             @Override
             @JsonProperty("vendors")
@@ -320,6 +332,7 @@ class JacksonCustomizations {
                 "setRoles",
                 "setCreatorDepartment"
         })
+        @JsonFilter(SelectedFieldsFilter.FILTER_ID)
         static abstract class ReleaseMixin extends Release {
             @Override
             @JsonProperty("cpeId")
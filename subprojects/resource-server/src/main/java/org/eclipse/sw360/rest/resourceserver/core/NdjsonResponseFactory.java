@@ -0,0 +1,78 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes collections as newline delimited JSON, one resource with its links per line.
+ * The lines are serialized one after the other while the response is written,
+ * so the memory needed does not grow with the size of the collection.
+ */
+@Component
+public class NdjsonResponseFactory {
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final MediaType APPLICATION_NDJSON = MediaType.valueOf(APPLICATION_NDJSON_VALUE);
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${sw360.ndjson.flush-interval:100}")
+    private int flushInterval;
+
+    @Autowired
+    public NdjsonResponseFactory(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        // the builder applies the same modules as for the other responses, including the sw360 mixins
+        this.objectMapper = objectMapperBuilder.build()
+                .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * The resource factory is called while the response is written, outside of the request thread.
+     * Links that depend on the current request must therefore be computed before.
+     */
+    public <T, R> ResponseEntity<StreamingResponseBody> createResponse(
+            List<T> items, Function<T, Resource<R>> resourceFactory) {
+        StreamingResponseBody body = outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            generator.setRootValueSeparator(null);
+            int written = 0;
+            for (T item : items) {
+                Resource<R> resource = resourceFactory.apply(item);
+                ObjectNode node = objectMapper.valueToTree(resource.getContent());
+                ObjectNode linksNode = node.putObject("_links");
+                for (Link link : resource.getLinks()) {
+                    linksNode.putObject(link.getRel()).put("href", link.getHref());
+                }
+                objectMapper.writeValue(generator, node);
+                generator.writeRaw('\n');
+                if (++written % flushInterval == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Handles requests that call the backend asynchronously, so the servlet container thread is released
+ * while the backend is called. The pool and its queue are bounded, a request that does not fit is
+ * rejected with a TaskRejectedException, which is answered with 503 Service Unavailable.
+ */
+@Component
+@Slf4j
+public class RequestExecutor implements DisposableBean {
+    @Value("${sw360.request-executor.pool-size:32}")
+    private int poolSize;
+
+    @Value("${sw360.request-executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${sw360.request-executor.timeout-millis:90000}")
+    private long timeoutMillis;
+
+    @Value("${sw360.thrift-client.pool-max-wait-millis:10000}")
+    private long thriftPoolMaxWaitMillis;
+
+    @Value("${sw360.thrift-client.connect-timeout-millis:5000}")
+    private long thriftConnectTimeoutMillis;
+
+    @Value("${sw360.thrift-client.read-timeout-millis:60000}")
+    private long thriftReadTimeoutMillis;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        // a request must not time out while its backend call may still succeed
+        long backendTimeoutMillis = thriftPoolMaxWaitMillis + thriftConnectTimeoutMillis + thriftReadTimeoutMillis;
+        if (timeoutMillis <= backendTimeoutMillis) {
+            log.warn("sw360.request-executor.timeout-millis " + timeoutMillis + " is raised above the backend timeouts to "
+                    + (backendTimeoutMillis + 1000));
+            timeoutMillis = backendTimeoutMillis + 1000;
+        }
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sw360-request-");
+        executor.initialize();
+    }
+
+    /**
+     * Runs the handler on the request pool with the attributes of the current request.
+     * If the handler does not finish within the timeout, the request is answered with 503 and the handler
+     * is interrupted. From then on the handler cannot access the request anymore, the container may already
+     * reuse it for another request.
+     */
+    public <T> DeferredResult<T> submit(Supplier<T> handler) {
+        ServletRequestAttributes requestAttributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        // resolved on the container thread, so the handler does not need to read the request for links
+        Sw360Links.current();
+        // the attributes of the container thread are completed when it returns, so they cannot be shared
+        HandlerRequestAttributes handlerAttributes =
+                new HandlerRequestAttributes(requestAttributes.getRequest(), requestAttributes.getResponse());
+        DeferredResult<T> deferredResult = new DeferredResult<>(timeoutMillis);
+        Future<?> handlerFuture = executor.submit(() -> {
+            RequestContextHolder.setRequestAttributes(handlerAttributes);
+            Runnable completion;
+            try {
+                T result = handler.get();
+                completion = () -> deferredResult.setResult(result);
+            } catch (RuntimeException e) {
+                completion = () -> deferredResult.setErrorResult(e);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+            // an expired request has been answered already, it is neither completed nor given the result
+            Runnable resultCompletion = completion;
+            handlerAttributes.runIfActive(() -> {
+                handlerAttributes.requestCompleted();
+                resultCompletion.run();
+            });
+        });
+        deferredResult.onTimeout(() -> {
+            handlerAttributes.expire();
+            handlerFuture.cancel(true);
+        });
+        deferredResult.onCompletion(handlerAttributes::expire);
+        return deferredResult;
+    }
+
+    /**
+     * Runs an access to the servlet request or response that is not made through the request attributes,
+     * e.g. setting an ETag. In a handler run by this executor it fails with an IllegalStateException once the
+     * request has expired, elsewhere it is just run.
+     */
+    public static <T> T whileRequestActive(Supplier<T> access) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes instanceof HandlerRequestAttributes) {
+            return ((HandlerRequestAttributes) requestAttributes).access(access);
+        }
+        return access.get();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * The attributes of a request seen by its handler. Each access holds a read lock, the request expires
+     * under the write lock, so no access is running when the container takes the request back.
+     */
+    private static class HandlerRequestAttributes extends ServletRequestAttributes {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile boolean active = true;
+
+        HandlerRequestAttributes(HttpServletRequest request, HttpServletResponse response) {
+            super(request, response);
+        }
+
+        void expire() {
+            lock.writeLock().lock();
+            try {
+                active = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void runIfActive(Runnable action) {
+            lock.readLock().lock();
+            try {
+                if (active) {
+                    action.run();
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        <T> T access(Supplier<T> access) {
+            lock.readLock().lock();
+            try {
+                if (!active) {
+                    throw new IllegalStateException("the request has expired");
+                }
+                return access.get();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public Object getAttribute(String name, int scope) {
+            return access(() -> super.getAttribute(name, scope));
+        }
+
+        @Override
+        public void setAttribute(String name, Object value, int scope) {
+            access(() -> {
+                super.setAttribute(name, value, scope);
+                return null;
+            });
+        }
+
+        @Override
+        public void removeAttribute(String name, int scope) {
+            access(() -> {
+                super.removeAttribute(name, scope);
+                return null;
+            });
+        }
+
+        @Override
+        public String[] getAttributeNames(int scope) {
+            return access(() -> super.getAttributeNames(scope));
+        }
+
+        @Override
+        public void registerDestructionCallback(String name, Runnable callback, int scope) {
+            access(() -> {
+                super.registerDestructionCallback(name, callback, scope);
+                return null;
+            });
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The properties and embedded resources a client asked for with the
+ * fields and embed request parameters, both given as comma separated names.
+ * Without fields all properties are selected. Without embed all embedded resources are selected,
+ * unless fields is given, then nothing is embedded.
+ */
+@EqualsAndHashCode
+public class ResourceSelection {
+    public static final ResourceSelection ALL = new ResourceSelection(null, null);
+    public static final ResourceSelection NOT_EMBEDDED = new ResourceSelection(null, Collections.emptySet());
+
+    private final Set<String> fields;
+    private final Set<String> embedded;
+
+    private ResourceSelection(Set<String> fields, Set<String> embedded) {
+        this.fields = fields;
+        this.embedded = embedded;
+    }
+
+    public static ResourceSelection of(String fields, String embed) {
+        Set<String> fieldSet = parseNames(fields);
+        Set<String> embeddedSet = parseNames(embed);
+        if (fieldSet != null && embeddedSet == null) {
+            embeddedSet = Collections.emptySet();
+        }
+        return new ResourceSelection(fieldSet, embeddedSet);
+    }
+
+    public boolean includesAllFields() {
+        return fields == null;
+    }
+
+    public boolean includesField(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    public boolean embeds(String relation) {
+        return embedded == null || embedded.contains(relation);
+    }
+
+    private static Set<String> parseNames(String names) {
+        if (names == null) {
+            return null;
+        }
+        return Arrays.stream(names.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+    }
+}
@@ -17,33 +17,61 @@ import org.eclipse.sw360.datahandler.thrift.components.Component;
 import org.eclipse.sw360.datahandler.thrift.components.Release;
 import org.eclipse.sw360.datahandler.thrift.licenses.License;
 import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.datahandler.thrift.users.UserGroup;
 import org.eclipse.sw360.datahandler.thrift.vendors.Vendor;
 import org.eclipse.sw360.rest.resourceserver.attachment.AttachmentController;
 import org.eclipse.sw360.rest.resourceserver.component.ComponentController;
+import org.eclipse.sw360.rest.resourceserver.job.Job;
+import org.eclipse.sw360.rest.resourceserver.job.JobController;
 import org.eclipse.sw360.rest.resourceserver.license.LicenseController;
 import org.eclipse.sw360.rest.resourceserver.license.Sw360LicenseService;
 import org.eclipse.sw360.rest.resourceserver.release.ReleaseController;
 import org.eclipse.sw360.rest.resourceserver.release.Sw360ReleaseService;
 import org.eclipse.sw360.rest.resourceserver.user.Sw360UserService;
-import org.eclipse.sw360.rest.resourceserver.user.UserController;
 import org.eclipse.sw360.rest.resourceserver.vendor.Sw360VendorService;
 import org.eclipse.sw360.rest.resourceserver.vendor.VendorController;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.provider.OAuth2Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Set;
-
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class RestControllerHelper {
+    @Value("${sw360.pagination.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${sw360.pagination.max-page-size:1000}")
+    private int maxPageSize;
+
     @NonNull
     private final Sw360UserService userService;
 
@@ -53,11 +81,233 @@ public class RestControllerHelper {
     @NonNull
     private final Sw360LicenseService licenseService;
 
+    @NonNull
+    private final EmbeddingExecutor embeddingExecutor;
+
+    @NonNull
+    private final RequestExecutor requestExecutor;
+
+    public EmbeddingBatch newEmbeddingBatch() {
+        return embeddingExecutor.newBatch();
+    }
+
+    /**
+     * Runs a request handler that calls the backend on the request executor,
+     * see {@link RequestExecutor#submit}.
+     */
+    public <T> DeferredResult<T> defer(Supplier<T> handler) {
+        return requestExecutor.submit(handler);
+    }
+
     public User getSw360UserFromAuthentication(OAuth2Authentication oAuth2Authentication) {
         String userId = oAuth2Authentication.getName();
         return userService.getUserByEmail(userId);
     }
 
+    /**
+     * Used in the method security expressions of operations on all resources of a kind, e.g.
+     * {@code @PreAuthorize("@restControllerHelper.isSw360Admin(authentication)")}.
+     */
+    public boolean isSw360Admin(Authentication authentication) {
+        User user = userService.getUserByEmail(authentication.getName());
+        return user != null && user.getUserGroup() == UserGroup.ADMIN;
+    }
+
+    /**
+     * @throws BadRequestException unless an operation on all resources of a kind is confirmed
+     */
+    public void requireConfirmation(boolean confirm, String operation) {
+        if (!confirm) {
+            throw new BadRequestException(operation + " must be confirmed with the request parameter confirm=true");
+        }
+    }
+
+    /**
+     * Wraps the given items into a collection resource. If neither page nor size is given,
+     * all items are returned, otherwise only the requested page including its paging links.
+     * Only the items on the requested page are converted to resources.
+     */
+    public <T, R> Resources<Resource<R>> createResources(
+            List<T> items,
+            Integer page,
+            Integer size,
+            Function<T, Resource<R>> resourceFactory) {
+        if (page == null && size == null) {
+            return new Resources<>(items.stream().map(resourceFactory).collect(Collectors.toList()));
+        }
+
+        int pageNumber = getPageNumber(page);
+        int pageSize = getPageSize(size);
+        int totalElements = items.size();
+        int totalPages = (totalElements + pageSize - 1) / pageSize;
+        List<Resource<R>> pageResources = getPageItems(items, pageNumber, pageSize).stream()
+                .map(resourceFactory)
+                .collect(Collectors.toList());
+
+        int lastPage = Math.max(totalPages - 1, 0);
+        List<Link> links = new ArrayList<>();
+        links.add(createPageLink(0, pageSize, Link.REL_FIRST));
+        if (pageNumber > 0) {
+            links.add(createPageLink(Math.min(pageNumber - 1, lastPage), pageSize, Link.REL_PREVIOUS));
+        }
+        if (pageNumber < lastPage) {
+            links.add(createPageLink(pageNumber + 1, pageSize, Link.REL_NEXT));
+        }
+        links.add(createPageLink(lastPage, pageSize, Link.REL_LAST));
+
+        PagedResources.PageMetadata pageMetadata =
+                new PagedResources.PageMetadata(pageSize, pageNumber, totalElements, totalPages);
+        return new PagedResources<>(pageResources, pageMetadata, links);
+    }
+
+    private int getPageNumber(Integer page) {
+        int pageNumber = page != null ? page : 0;
+        if (pageNumber < 0) {
+            throw new BadRequestException("page must not be negative and size must be greater than zero");
+        }
+        return pageNumber;
+    }
+
+    private int getPageSize(Integer size) {
+        int pageSize = size != null ? Math.min(size, maxPageSize) : defaultPageSize;
+        if (pageSize < 1) {
+            throw new BadRequestException("page must not be negative and size must be greater than zero");
+        }
+        return pageSize;
+    }
+
+    private static <T> List<T> getPageItems(List<T> items, int pageNumber, int pageSize) {
+        int fromIndex = (int) Math.min((long) pageNumber * pageSize, items.size());
+        int toIndex = Math.min(fromIndex + pageSize, items.size());
+        return items.subList(fromIndex, toIndex);
+    }
+
+    private Link createPageLink(int page, int size, String relation) {
+        String href = RequestExecutor.whileRequestActive(() -> ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("page", page)
+                .replaceQueryParam("size", size)
+                .build()
+                .toUriString());
+        return new Link(href, relation);
+    }
+
+    /**
+     * Sets a strong ETag derived from the document revision and the selection, and returns true
+     * if it matches If-None-Match. The response is then already answered with 304 Not Modified.
+     */
+    public boolean isNotModified(WebRequest webRequest, String revision, ResourceSelection selection) {
+        if (revision == null) {
+            return false;
+        }
+        String eTag = ResourceSelection.ALL.equals(selection)
+                ? revision
+                : revision + "-" + Integer.toHexString(selection.hashCode());
+        return checkNotModified(webRequest, "\"" + eTag + "\"");
+    }
+
+    /**
+     * Like {@link #isNotModified(WebRequest, String, ResourceSelection)} for the collection resource that
+     * {@link #createResources} would build, but checked before it is built. The weak ETag is a SHA-256 digest of
+     * the paging, the selection, the number of items and the ids and revisions of the items on the page.
+     * Items without a revision contribute their hash code instead.
+     */
+    public <T> boolean isNotModified(WebRequest webRequest, List<T> items, Integer page, Integer size,
+                                     ResourceSelection selection, Function<T, String> id, Function<T, String> revision) {
+        List<T> pageItems = items;
+        StringBuilder content = new StringBuilder();
+        if (page != null || size != null) {
+            int pageNumber = getPageNumber(page);
+            int pageSize = getPageSize(size);
+            pageItems = getPageItems(items, pageNumber, pageSize);
+            content.append(pageNumber).append('/').append(pageSize);
+        }
+        content.append('|').append(selection.hashCode()).append('|').append(items.size());
+        for (T item : pageItems) {
+            String itemRevision = revision.apply(item);
+            content.append('|').append(id.apply(item)).append('@')
+                    .append(itemRevision != null ? itemRevision : Integer.toHexString(item.hashCode()));
+        }
+        return checkNotModified(webRequest, "W/\"" + digest(content.toString()) + "\"");
+    }
+
+    /**
+     * Answers the request with 304 if the ETag matches. Otherwise the ETag is only sent with the body,
+     * unless embeddings of the body are degraded, see {@link DegradedEmbeddingResponseAdvice}.
+     */
+    private static boolean checkNotModified(WebRequest webRequest, String eTag) {
+        return RequestExecutor.whileRequestActive(() -> {
+            if (!(webRequest instanceof ServletWebRequest)) {
+                return webRequest.checkNotModified(eTag);
+            }
+            // checked without the response, which would get the ETag header at once
+            if (new ServletWebRequest(((ServletWebRequest) webRequest).getRequest()).checkNotModified(eTag)) {
+                return webRequest.checkNotModified(eTag);
+            }
+            webRequest.setAttribute(DegradedEmbeddingResponseAdvice.ETAG_ATTRIBUTE, eTag, RequestAttributes.SCOPE_REQUEST);
+            return false;
+        });
+    }
+
+    private static String digest(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the id at the end of the path of a resource URI, e.g. of a vendor URI given in a request body.
+     */
+    public String getIdFromUri(String uriString) throws URISyntaxException {
+        String path = new URI(uriString).getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Runs the creation of one item of a bulk request and maps its outcome to a status.
+     * A failing item does not abort the remaining items of the request.
+     */
+    public BulkItemStatus createBulkItem(Callable<String> creation, String collectionHref) {
+        try {
+            String id = creation.call();
+            if (id == null) {
+                return BulkItemStatus.failed(HttpStatus.INTERNAL_SERVER_ERROR, "the item could not be created");
+            }
+            return BulkItemStatus.created(id, collectionHref + "/" + id);
+        } catch (BadRequestException | URISyntaxException e) {
+            return BulkItemStatus.failed(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            return BulkItemStatus.failed(HttpStatus.CONFLICT, e.getMessage());
+        } catch (Exception e) {
+            log.error("cannot create item of bulk request", e);
+            return BulkItemStatus.failed(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * Runs the deletion of one item of a job and maps its outcome to a status.
+     */
+    public BulkItemStatus deleteBulkItem(String id, Runnable deletion) {
+        try {
+            deletion.run();
+            return BulkItemStatus.deleted(id);
+        } catch (DataIntegrityViolationException e) {
+            return BulkItemStatus.failed(id, HttpStatus.CONFLICT, e.getMessage());
+        } catch (Exception e) {
+            log.error("cannot delete item " + id, e);
+            return BulkItemStatus.failed(id, HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    public ResponseEntity<Resource<Job>> createJobAcceptedResponse(Job job) {
+        Link jobLink = Sw360Links.current().selfLink(JobController.JOBS_URL, job.getId());
+        return ResponseEntity.accepted()
+                .location(URI.create(jobLink.getHref()))
+                .body(new Resource<>(job, jobLink));
+    }
+
     public void addEmbeddedModerators(HalResource halResource, Set<String> moderators) {
         for (String moderatorEmail : moderators) {
             User user = new User();
@@ -67,15 +317,35 @@ public class RestControllerHelper {
     }
 
     public void addEmbeddedReleases(
+            EmbeddingBatch embeddingBatch,
             HalResource halResource,
             Set<String> releases,
             Sw360ReleaseService sw360ReleaseService,
             User user,
             String linkRelation) {
-        for (String releaseId : releases) {
-            final Release release = sw360ReleaseService.getReleaseForUserById(releaseId, user);
-            addEmbeddedRelease(halResource, release, linkRelation);
+        embeddingBatch.add(linkRelation,
+                () -> sw360ReleaseService.getReleasesForUserByIds(releases, user),
+                releaseList -> {
+                    for (Release release : releaseList) {
+                        addEmbeddedRelease(halResource, release, linkRelation);
+                    }
+                },
+                () -> {
+                    for (String releaseId : releases) {
+                        addEmbeddedStub(halResource, new Release().setId(releaseId).setType(null), ReleaseController.RELEASES_URL, releaseId, linkRelation);
+                    }
+                });
+    }
+
+    /**
+     * Embeds a resource that could not be looked up with its id and self link only.
+     */
+    private <T> void addEmbeddedStub(HalResource halResource, T stub, String collectionUrl, String id, String relation) {
+        HalResource<T> halStub = new HalResource<>(stub);
+        if (id != null) {
+            halStub.add(Sw360Links.current().selfLink(collectionUrl, id));
         }
+        halResource.addEmbeddedResource(relation, halStub);
     }
 
     public void addEmbeddedReleases(
@@ -92,9 +362,7 @@ public class RestControllerHelper {
         try {
             embeddedUser.setEmail(user.getEmail());
             embeddedUser.setType(null);
-            String userUUID = Base64.getEncoder().encodeToString(user.getEmail().getBytes("utf-8"));
-            Link userLink = linkTo(UserController.class).slash("api/users/" + userUUID).withSelfRel();
-            embeddedUserResource.add(userLink);
+            embeddedUserResource.add(Sw360Links.current().userSelfLink(user.getEmail()));
         } catch (Exception e) {
             log.error("cannot create embedded user with email: " + user.getEmail());
         }
@@ -103,86 +371,85 @@ public class RestControllerHelper {
     }
 
 
-    public void addEmbeddedVendors(HalResource<Component> halComponent, Set<String> vendors) {
+    public void addEmbeddedVendors(EmbeddingBatch embeddingBatch, HalResource<Component> halComponent, Set<String> vendors) {
         for (String vendorFullName : vendors) {
-            HalResource<Vendor> vendorHalResource = addEmbeddedVendor(vendorFullName);
-            halComponent.addEmbeddedResource("vendors", vendorHalResource);
+            addEmbeddedVendor(embeddingBatch, halComponent, vendorFullName, "vendors");
         }
+    }
 
+    private void addEmbeddedVendor(EmbeddingBatch embeddingBatch, HalResource halResource, String vendorFullName, String relation) {
+        embeddingBatch.add(relation,
+                () -> vendorService.getVendorByFullName(vendorFullName),
+                vendorByFullName -> halResource.addEmbeddedResource(relation, createHalVendor(vendorFullName, vendorByFullName)),
+                () -> addEmbeddedStub(halResource, new Vendor().setFullname(vendorFullName).setType(null), VendorController.VENDORS_URL, null, relation));
     }
 
-    private HalResource<Vendor> addEmbeddedVendor(String vendorFullName) {
+    private HalResource<Vendor> createHalVendor(String vendorFullName, Vendor vendorByFullName) {
         Vendor vendor = new Vendor();
         HalResource<Vendor> halVendor = new HalResource<>(vendor);
         vendor.setFullname(vendorFullName);
         vendor.setType(null);
-        try {
-            Vendor vendorByFullName = vendorService.getVendorByFullName(vendorFullName);
-            Link vendorSelfLink = linkTo(UserController.class)
-                    .slash("api" + VendorController.VENDORS_URL + "/" + vendorByFullName.getId()).withSelfRel();
-            halVendor.add(vendorSelfLink);
-            return halVendor;
-        } catch (Exception e) {
-            log.error("cannot create self link for vendor with full name: " + vendorFullName);
-        }
-        return null;
+        halVendor.add(Sw360Links.current().selfLink(VendorController.VENDORS_URL, vendorByFullName.getId()));
+        return halVendor;
     }
 
-    public void addEmbeddedLicenses(HalResource<Release> halComponent, Set<String> licenseIds) {
+    public void addEmbeddedLicenses(EmbeddingBatch embeddingBatch, HalResource<Release> halComponent, Set<String> licenseIds) {
         for (String licenseId : licenseIds) {
-            HalResource<License> licenseHalResource = addEmbeddedLicense(licenseId);
-            halComponent.addEmbeddedResource("licenses", licenseHalResource);
+            embeddingBatch.add("licenses",
+                    () -> licenseService.getLicenseSummaryById(licenseId),
+                    licenseById -> halComponent.addEmbeddedResource("licenses", createHalLicense(licenseId, licenseById)),
+                    () -> addEmbeddedStub(halComponent, new License().setId(licenseId).setType(null), LicenseController.LICENSES_URL, licenseId, "licenses"));
         }
     }
 
-    private HalResource<License> addEmbeddedLicense(String licenseId) {
+    private HalResource<License> createHalLicense(String licenseId, License licenseById) {
         License license = new License();
         HalResource<License> halLicense = new HalResource<>(license);
         license.setId(licenseId);
         license.setType(null);
-        try {
-            License licenseById = licenseService.getLicenseById(licenseId);
-            license.setFullname(licenseById.getFullname());
-            Link licenseSelfLink = linkTo(UserController.class)
-                    .slash("api" + LicenseController.LICENSES_URL + "/" + licenseById.getId()).withSelfRel();
-            halLicense.add(licenseSelfLink);
-            return halLicense;
-        } catch (Exception e) {
-            log.error("cannot create self link for license with id: " + licenseId);
-        }
-        return null;
+        license.setFullname(licenseById.getFullname());
+        halLicense.add(Sw360Links.current().selfLink(LicenseController.LICENSES_URL, licenseById.getId()));
+        return halLicense;
     }
 
     public HalResource<Release> createHalReleaseResource(Release release, boolean verbose) {
+        return createHalReleaseResource(release, verbose ? ResourceSelection.ALL : ResourceSelection.NOT_EMBEDDED);
+    }
+
+    public HalResource<Release> createHalReleaseResource(Release release, ResourceSelection selection) {
         HalResource<Release> halRelease = new HalResource<>(release);
+        SelectedFieldsFilter.select(release, selection);
 
-        Link componentLink = linkTo(ReleaseController.class)
-                .slash("api" + ComponentController.COMPONENTS_URL + "/" + release.getComponentId()).withRel("component");
-        halRelease.add(componentLink);
+        halRelease.add(Sw360Links.current().link(ComponentController.COMPONENTS_URL, release.getComponentId(), "component"));
         release.setComponentId(null);
 
-        if (verbose) {
-            if (release.getModerators() != null) {
-                Set<String> moderators = release.getModerators();
-                this.addEmbeddedModerators(halRelease, moderators);
-                release.setModerators(null);
+        // the related resources are only represented embedded, even if they are not selected
+        EmbeddingBatch embeddingBatch = newEmbeddingBatch();
+        if (release.getModerators() != null) {
+            if (selection.embeds("moderators")) {
+                this.addEmbeddedModerators(halRelease, release.getModerators());
             }
-            if (release.getAttachments() != null) {
-                Set<Attachment> attachments = release.getAttachments();
-                this.addEmbeddedAttachments(halRelease, attachments);
-                release.setAttachments(null);
+            release.setModerators(null);
+        }
+        if (release.getAttachments() != null) {
+            if (selection.embeds("attachments")) {
+                this.addEmbeddedAttachments(halRelease, release.getAttachments());
             }
-            if (release.getVendor() != null) {
-                Vendor vendor = release.getVendor();
-                HalResource<Vendor> vendorHalResource = this.addEmbeddedVendor(vendor.getFullname());
-                halRelease.addEmbeddedResource("vendor", vendorHalResource);
-                release.setVendor(null);
+            release.setAttachments(null);
+        }
+        if (release.getVendor() != null) {
+            if (selection.embeds("vendor")) {
+                this.addEmbeddedVendor(embeddingBatch, halRelease, release.getVendor().getFullname(), "vendor");
             }
-            if (release.getMainLicenseIds() != null) {
-                this.addEmbeddedLicenses(halRelease, release.getMainLicenseIds());
-                release.setMainLicenseIds(null);
+            release.setVendor(null);
+        }
+        if (release.getMainLicenseIds() != null) {
+            if (selection.embeds("licenses")) {
+                this.addEmbeddedLicenses(embeddingBatch, halRelease, release.getMainLicenseIds());
             }
+            release.setMainLicenseIds(null);
         }
+        embeddingBatch.resolve();
         return halRelease;
     }
 
@@ -206,8 +473,7 @@ public class RestControllerHelper {
         release.setLanguages(null);
         HalResource<Release> halRelease = new HalResource<>(release);
         try {
-            Link releaseLink = linkTo(ReleaseController.class).slash("api/releases/" + release.getId()).withSelfRel();
-            halRelease.add(releaseLink);
+            halRelease.add(Sw360Links.current().selfLink(ReleaseController.RELEASES_URL, release.getId()));
         } catch (Exception e) {
             log.error("cannot create embedded release with id: " + release.getId());
         }
@@ -230,9 +496,8 @@ public class RestControllerHelper {
 
             HalResource<Attachment> halAttachmentResource = new HalResource<>(attachment);
             try {
-                Link attachmentLink = linkTo(AttachmentController.class)
-                        .slash("api/attachments/" + attachment.getAttachmentContentId()).withSelfRel();
-                halAttachmentResource.add(attachmentLink);
+                halAttachmentResource.add(Sw360Links.current()
+                        .selfLink(AttachmentController.ATTACHMENTS_URL, attachment.getAttachmentContentId()));
             } catch (Exception e) {
                 log.error("cannot create embedded attachment with content id: " + attachment.getAttachmentContentId());
             }
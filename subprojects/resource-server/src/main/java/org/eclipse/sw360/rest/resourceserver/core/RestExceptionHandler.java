@@ -12,10 +12,15 @@ package org.eclipse.sw360.rest.resourceserver.core;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.eclipse.sw360.rest.resourceserver.thrift.ThriftServiceUnavailableException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 import java.time.Instant;
 
@@ -24,9 +29,35 @@ public class RestExceptionHandler {
 
 	@ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorMessage> exceptionHandler(Exception e) {
+		// the services wrap the exceptions of the thrift clients
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ThriftServiceUnavailableException) {
+				return serviceUnavailableHandler((ThriftServiceUnavailableException) cause);
+			}
+		}
 		return new ResponseEntity<>(new ErrorMessage(e, HttpStatus.INTERNAL_SERVER_ERROR), HttpStatus.INTERNAL_SERVER_ERROR);
 	}
 
+	@ExceptionHandler(BadRequestException.class)
+	public ResponseEntity<ErrorMessage> badRequestHandler(BadRequestException e) {
+		return new ResponseEntity<>(new ErrorMessage(e, HttpStatus.BAD_REQUEST), HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(AccessDeniedException.class)
+	public ResponseEntity<ErrorMessage> forbiddenHandler(AccessDeniedException e) {
+		return new ResponseEntity<>(new ErrorMessage(e, HttpStatus.FORBIDDEN), HttpStatus.FORBIDDEN);
+	}
+
+	@ExceptionHandler(ResourceNotFoundException.class)
+	public ResponseEntity<ErrorMessage> notFoundHandler(ResourceNotFoundException e) {
+		return new ResponseEntity<>(new ErrorMessage(e, HttpStatus.NOT_FOUND), HttpStatus.NOT_FOUND);
+	}
+
+	@ExceptionHandler({TaskRejectedException.class, AsyncRequestTimeoutException.class})
+	public ResponseEntity<ErrorMessage> serviceUnavailableHandler(Exception e) {
+		return new ResponseEntity<>(new ErrorMessage(e, HttpStatus.SERVICE_UNAVAILABLE), HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
 	@Data
 	@RequiredArgsConstructor
 	private static class ErrorMessage {
@@ -0,0 +1,73 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Writes only the selected fields of the objects registered for the current request with {@link #select}.
+ * All other objects, for example embedded resources, are written completely.
+ */
+public class SelectedFieldsFilter extends SimpleBeanPropertyFilter {
+    public static final String FILTER_ID = "sw360SelectedFields";
+
+    private static final String SELECTIONS_ATTRIBUTE = SelectedFieldsFilter.class.getName() + ".selections";
+
+    public static void select(Object target, ResourceSelection selection) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (selection.includesAllFields() || requestAttributes == null) {
+            return;
+        }
+        getSelections(requestAttributes).put(target, selection);
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator jgen, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+        if (isSelected(pojo, writer.getName())) {
+            writer.serializeAsField(pojo, jgen, provider);
+        } else if (!jgen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, jgen, provider);
+        }
+    }
+
+    private boolean isSelected(Object pojo, String field) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        Map<Object, ResourceSelection> selections = requestAttributes != null ? findSelections(requestAttributes) : null;
+        if (selections == null) {
+            return true;
+        }
+        ResourceSelection selection = selections.get(pojo);
+        return selection == null || selection.includesField(field);
+    }
+
+    private static Map<Object, ResourceSelection> getSelections(RequestAttributes requestAttributes) {
+        Map<Object, ResourceSelection> selections = findSelections(requestAttributes);
+        if (selections == null) {
+            // identity, because thrift objects implement equals over all their fields
+            selections = new IdentityHashMap<>();
+            requestAttributes.setAttribute(SELECTIONS_ATTRIBUTE, selections, RequestAttributes.SCOPE_REQUEST);
+        }
+        return selections;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, ResourceSelection> findSelections(RequestAttributes requestAttributes) {
+        return (Map<Object, ResourceSelection>) requestAttributes.getAttribute(SELECTIONS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import org.eclipse.sw360.rest.resourceserver.user.UserController;
+import org.springframework.hateoas.Link;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the links of the API for the current request. The base URI, including the forwarded headers,
+ * is resolved once per request, the links of items are then concatenated from the cached collection hrefs.
+ * Unlike with ControllerLinkBuilder, the request and the controller mappings are not inspected for every link.
+ */
+public final class Sw360Links {
+    private static final String LINKS_ATTRIBUTE = Sw360Links.class.getName();
+    private static final String API_PATH = "/api";
+
+    private final String apiHref;
+    private final Map<String, String> collectionHrefs = new ConcurrentHashMap<>();
+
+    private Sw360Links(String baseHref) {
+        this.apiHref = baseHref + API_PATH;
+    }
+
+    /**
+     * @return the links of the current request, created with its first use in the request
+     */
+    public static Sw360Links current() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return fromCurrentRequest();
+        }
+        Sw360Links links = (Sw360Links) requestAttributes.getAttribute(LINKS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (links == null) {
+            links = fromCurrentRequest();
+            requestAttributes.setAttribute(LINKS_ATTRIBUTE, links, RequestAttributes.SCOPE_REQUEST);
+        }
+        return links;
+    }
+
+    private static Sw360Links fromCurrentRequest() {
+        return new Sw360Links(ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString());
+    }
+
+    public String getApiHref() {
+        return apiHref;
+    }
+
+    /**
+     * @param collectionUrl the mapping of a collection below the API, e.g. "/releases"
+     */
+    public String href(String collectionUrl) {
+        return collectionHrefs.computeIfAbsent(collectionUrl, url -> apiHref + url);
+    }
+
+    public String href(String collectionUrl, String id) {
+        return href(collectionUrl) + "/" + id;
+    }
+
+    public Link link(String collectionUrl, String id, String relation) {
+        return new Link(href(collectionUrl, id), relation);
+    }
+
+    public Link selfLink(String collectionUrl, String id) {
+        return link(collectionUrl, id, Link.REL_SELF);
+    }
+
+    public Link collectionLink(String collectionUrl, String relation) {
+        return new Link(href(collectionUrl), relation);
+    }
+
+    /**
+     * Users are addressed by their Base64 encoded email.
+     */
+    public Link userSelfLink(String email) {
+        return selfLink(UserController.USERS_URL, userId(email));
+    }
+
+    public static String userId(String email) {
+        return Base64.getEncoder().encodeToString(email.getBytes(StandardCharsets.UTF_8));
+    }
+}
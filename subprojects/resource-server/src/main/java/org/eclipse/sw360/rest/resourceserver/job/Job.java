@@ -0,0 +1,158 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.job;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.eclipse.sw360.rest.resourceserver.core.BulkItemStatus;
+import org.eclipse.sw360.rest.resourceserver.core.JsonInstantSerializer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The progress of a long-running operation that is processed item by item.
+ * Jobs are updated by the worker threads of the {@link JobService} and read by the polling clients.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class Job {
+    private final String id;
+    private final String type;
+    private final String ownerEmail;
+    private final Instant submittedOn = Instant.now();
+    private final AtomicInteger processed = new AtomicInteger();
+    private final List<JobItemFailure> failures = new ArrayList<>();
+
+    private volatile AtomicReferenceArray<BulkItemStatus> items;
+    private volatile JobState state = JobState.QUEUED;
+    private volatile int total;
+    private volatile String message;
+    private volatile Instant startedOn;
+    private volatile Instant finishedOn;
+
+    Job(String id, String type, String ownerEmail) {
+        this.id = id;
+        this.type = type;
+        this.ownerEmail = ownerEmail;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    @JsonIgnore
+    public String getOwnerEmail() {
+        return ownerEmail;
+    }
+
+    public JobState getState() {
+        return state;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getProcessed() {
+        return processed.get();
+    }
+
+    public int getFailed() {
+        synchronized (failures) {
+            return failures.size();
+        }
+    }
+
+    public List<JobItemFailure> getFailures() {
+        synchronized (failures) {
+            return new ArrayList<>(failures);
+        }
+    }
+
+    /**
+     * @return the outcome of every item in the order of the job, like the response of a synchronous
+     * bulk request, with null for the items not processed yet, or null before the job started
+     */
+    public List<BulkItemStatus> getItems() {
+        AtomicReferenceArray<BulkItemStatus> itemStatuses = items;
+        if (itemStatuses == null) {
+            return null;
+        }
+        List<BulkItemStatus> itemList = new ArrayList<>(itemStatuses.length());
+        for (int i = 0; i < itemStatuses.length(); i++) {
+            itemList.add(itemStatuses.get(i));
+        }
+        return itemList;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @JsonSerialize(using = JsonInstantSerializer.class)
+    public Instant getSubmittedOn() {
+        return submittedOn;
+    }
+
+    @JsonSerialize(using = JsonInstantSerializer.class)
+    public Instant getStartedOn() {
+        return startedOn;
+    }
+
+    @JsonSerialize(using = JsonInstantSerializer.class)
+    public Instant getFinishedOn() {
+        return finishedOn;
+    }
+
+    @JsonIgnore
+    public boolean isFinished() {
+        return state == JobState.COMPLETED || state == JobState.FAILED;
+    }
+
+    void start(int total) {
+        this.total = total;
+        this.items = new AtomicReferenceArray<>(total);
+        this.startedOn = Instant.now();
+        this.state = JobState.RUNNING;
+    }
+
+    /**
+     * @return the number of items processed so far, including this one
+     */
+    int itemProcessed(int index, BulkItemStatus itemStatus) {
+        items.set(index, itemStatus);
+        if (itemStatus.getStatus() >= 400) {
+            JobItemFailure failure = new JobItemFailure(index, itemStatus.getId(), itemStatus.getStatus(), itemStatus.getMessage());
+            synchronized (failures) {
+                failures.add(failure);
+            }
+        }
+        return processed.incrementAndGet();
+    }
+
+    void complete() {
+        finishedOn = Instant.now();
+        state = JobState.COMPLETED;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        finishedOn = Instant.now();
+        state = JobState.FAILED;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.job;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.rest.resourceserver.core.RestControllerHelper;
+import org.eclipse.sw360.rest.resourceserver.core.Sw360Links;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.webmvc.BasePathAwareController;
+import org.springframework.data.rest.webmvc.ResourceNotFoundException;
+import org.springframework.hateoas.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@BasePathAwareController
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class JobController {
+    public static final String JOBS_URL = "/jobs";
+
+    @NonNull
+    private final JobService jobService;
+
+    @NonNull
+    private final RestControllerHelper restControllerHelper;
+
+    @RequestMapping(JOBS_URL + "/{id}")
+    public ResponseEntity<Resource<Job>> getJob(
+            @PathVariable("id") String id, OAuth2Authentication oAuth2Authentication) {
+        User sw360User = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
+        Job job = jobService.getJob(id, sw360User);
+        if (job == null) {
+            throw new ResourceNotFoundException("job " + id + " does not exist");
+        }
+        Resource<Job> jobResource = new Resource<>(job,
+                Sw360Links.current().selfLink(JOBS_URL, job.getId()));
+        return new ResponseEntity<>(jobResource, HttpStatus.OK);
+    }
+}
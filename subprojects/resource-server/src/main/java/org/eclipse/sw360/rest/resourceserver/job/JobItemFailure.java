@@ -0,0 +1,25 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.job;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Value;
+
+/**
+ * An item of a job that could not be processed, identified by its position in the job.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobItemFailure {
+    int index;
+    String id;
+    int status;
+    String message;
+}
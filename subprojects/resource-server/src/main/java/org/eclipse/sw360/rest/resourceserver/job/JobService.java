@@ -0,0 +1,168 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.rest.resourceserver.core.BulkItemStatus;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs long-running operations in the background, so that the HTTP request only submits them.
+ * The items of a job are processed on a bounded worker pool by up to parallelism workers,
+ * finished jobs can be polled until they are older than the retention time.
+ */
+@Service
+@Slf4j
+public class JobService implements DisposableBean {
+    @Value("${sw360.jobs.pool-size:8}")
+    private int poolSize;
+
+    @Value("${sw360.jobs.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${sw360.jobs.parallelism:4}")
+    private int parallelism;
+
+    @Value("${sw360.jobs.retention-millis:3600000}")
+    private long retentionMillis;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    private TaskExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        ThreadPoolTaskExecutor threadPoolExecutor = new ThreadPoolTaskExecutor();
+        threadPoolExecutor.setCorePoolSize(poolSize);
+        threadPoolExecutor.setMaxPoolSize(poolSize);
+        threadPoolExecutor.setQueueCapacity(queueCapacity);
+        threadPoolExecutor.setThreadNamePrefix("sw360-job-");
+        threadPoolExecutor.initialize();
+        executor = threadPoolExecutor;
+    }
+
+    /**
+     * Submits a job that loads its items with the item source and processes each of them with the processor.
+     * The status of every item is recorded in the job, a failed item status also as failure of the job,
+     * the remaining items are processed anyway.
+     *
+     * @throws TaskRejectedException if the worker pool cannot accept any more jobs
+     */
+    public <T> Job submit(String type, User owner, Callable<List<T>> itemSource, Function<T, BulkItemStatus> processor) {
+        return submit(type, owner, itemSource, item -> null, processor);
+    }
+
+    /**
+     * @param itemId the id of an item, reported if the processor fails unexpectedly
+     * @see #submit(String, User, Callable, Function)
+     */
+    public <T> Job submit(String type, User owner, Callable<List<T>> itemSource, Function<T, String> itemId,
+                          Function<T, BulkItemStatus> processor) {
+        Job job = new Job(UUID.randomUUID().toString(), type, owner.getEmail());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, itemSource, itemId, processor));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * @return the job, or null if there is no such job or it was submitted by another user
+     */
+    public Job getJob(String id, User user) {
+        Job job = jobs.get(id);
+        if (job == null || !job.getOwnerEmail().equals(user.getEmail())) {
+            return null;
+        }
+        return job;
+    }
+
+    @Scheduled(fixedDelayString = "${sw360.jobs.retention-millis:3600000}")
+    public void removeExpiredJobs() {
+        Instant expiry = Instant.now().minusMillis(retentionMillis);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedOn().isBefore(expiry));
+    }
+
+    private <T> void run(Job job, Callable<List<T>> itemSource, Function<T, String> itemId,
+                         Function<T, BulkItemStatus> processor) {
+        List<T> items;
+        try {
+            items = itemSource.call();
+        } catch (Exception e) {
+            log.error("cannot load the items of job " + job.getId(), e);
+            job.fail(e.getMessage());
+            return;
+        }
+        job.start(items.size());
+        if (items.isEmpty()) {
+            job.complete();
+            return;
+        }
+
+        // the job completes with its last item, helpers that start after that find no more items
+        AtomicInteger nextItem = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int i = nextItem.getAndIncrement(); i < items.size(); i = nextItem.getAndIncrement()) {
+                if (job.itemProcessed(i, processItem(items.get(i), itemId, processor)) == items.size()) {
+                    job.complete();
+                }
+            }
+        };
+
+        int workerCount = Math.min(Math.max(1, parallelism), items.size());
+        for (int i = 1; i < workerCount; i++) {
+            try {
+                executor.execute(worker);
+            } catch (TaskRejectedException e) {
+                // the pool is busy with other jobs, the remaining workers of this job continue without it
+                break;
+            }
+        }
+        worker.run();
+    }
+
+    private <T> BulkItemStatus processItem(T item, Function<T, String> itemId, Function<T, BulkItemStatus> processor) {
+        try {
+            return processor.apply(item);
+        } catch (RuntimeException e) {
+            String id = itemId.apply(item);
+            log.error("cannot process item " + id + " of job", e);
+            return BulkItemStatus.failed(id, HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor) {
+            ((ThreadPoolTaskExecutor) executor).shutdown();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.job;
+
+public enum JobState {
+    QUEUED,
+    RUNNING,
+    /** all items were processed, some of them may have failed */
+    COMPLETED,
+    /** the items of the job could not be loaded */
+    FAILED
+}
@@ -15,10 +15,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.sw360.datahandler.thrift.licenses.License;
 import org.eclipse.sw360.datahandler.thrift.users.User;
 import org.eclipse.sw360.rest.resourceserver.core.HalResource;
+import org.eclipse.sw360.rest.resourceserver.core.ResourceSelection;
 import org.eclipse.sw360.rest.resourceserver.core.RestControllerHelper;
+import org.eclipse.sw360.rest.resourceserver.core.Sw360Links;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.rest.webmvc.BasePathAwareController;
 import org.springframework.data.rest.webmvc.RepositoryLinksResource;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.Resources;
@@ -29,15 +32,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
 import java.util.List;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-
 @BasePathAwareController
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
@@ -51,29 +53,31 @@ public class LicenseController implements ResourceProcessor<RepositoryLinksResou
     private final RestControllerHelper restControllerHelper;
 
     @RequestMapping(value = LICENSES_URL)
-    public ResponseEntity<Resources<Resource<License>>> getLicenses(OAuth2Authentication oAuth2Authentication) {
+    public ResponseEntity<Resources<Resource<LicenseSummary>>> getLicenses(
+            OAuth2Authentication oAuth2Authentication,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest) {
         List<License> licenses = licenseService.getLicenses();
 
-        List<Resource<License>> licenseResources = new ArrayList<>();
-        for (License license : licenses) {
-            // TODO Kai Tödter 2017-01-04
-            // Find better way to decrease details in list resources,
-            // e.g. apply projections or Jackson Mixins
-            license.setText(null);
-            license.setType(null);
-            license.setShortname(null);
-            Resource<License> licenseResource = new Resource<>(license);
-            licenseResources.add(licenseResource);
+        if (restControllerHelper.isNotModified(webRequest, licenses, page, size, ResourceSelection.ALL,
+                License::getId, License::getRevision)) {
+            return null;
         }
-        Resources<Resource<License>> resources = new Resources<>(licenseResources);
+        String licensesHref = Sw360Links.current().href(LICENSES_URL);
+        Resources<Resource<LicenseSummary>> resources = restControllerHelper.createResources(licenses, page, size,
+                license -> new Resource<>(LicenseSummary.from(license), new Link(licensesHref + "/" + license.getId())));
 
         return new ResponseEntity<>(resources, HttpStatus.OK);
     }
 
     @RequestMapping(LICENSES_URL + "/{id}")
     public ResponseEntity<Resource<License>> getLicense(
-            @PathVariable("id") String id, OAuth2Authentication oAuth2Authentication) {
+            @PathVariable("id") String id, OAuth2Authentication oAuth2Authentication, WebRequest webRequest) {
         License sw360License = licenseService.getLicenseById(id);
+        if (restControllerHelper.isNotModified(webRequest, sw360License.getRevision(), ResourceSelection.ALL)) {
+            return null;
+        }
         HalResource<License> licenseHalResource = createHalLicense(sw360License);
         return new ResponseEntity<>(licenseHalResource, HttpStatus.OK);
     }
@@ -95,7 +99,7 @@ public class LicenseController implements ResourceProcessor<RepositoryLinksResou
 
     @Override
     public RepositoryLinksResource process(RepositoryLinksResource resource) {
-        resource.add(linkTo(LicenseController.class).slash("api/licenses").withRel("licenses"));
+        resource.add(Sw360Links.current().collectionLink(LICENSES_URL, "licenses"));
         return resource;
     }
 
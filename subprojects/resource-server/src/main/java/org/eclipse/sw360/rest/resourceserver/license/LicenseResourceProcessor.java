@@ -11,12 +11,11 @@ package org.eclipse.sw360.rest.resourceserver.license;
 
 import lombok.RequiredArgsConstructor;
 import org.eclipse.sw360.datahandler.thrift.licenses.License;
+import org.eclipse.sw360.rest.resourceserver.core.Sw360Links;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-
 @org.springframework.stereotype.Component
 @RequiredArgsConstructor
 class LicenseResourceProcessor implements ResourceProcessor<Resource<License>> {
@@ -24,8 +23,7 @@ class LicenseResourceProcessor implements ResourceProcessor<Resource<License>> {
     @Override
     public Resource<License> process(Resource<License> resource) {
         License license = resource.getContent();
-        Link selfLink = linkTo(LicenseController.class)
-                .slash("api" + LicenseController.LICENSES_URL + "/" + license.getId()).withSelfRel();
+        Link selfLink = Sw360Links.current().selfLink(LicenseController.LICENSES_URL, license.getId());
         resource.add(selfLink);
         return resource;
     }
@@ -9,28 +9,49 @@
 
 package org.eclipse.sw360.rest.resourceserver.license;
 
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TCompactProtocol;
-import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.THttpClient;
-import org.apache.thrift.transport.TTransportException;
 import org.eclipse.sw360.datahandler.thrift.licenses.License;
 import org.eclipse.sw360.datahandler.thrift.licenses.LicenseService;
 import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.rest.resourceserver.thrift.ThriftClientPools;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class Sw360LicenseService {
-    @Value("${sw360.thrift-server-url:http://localhost:8080}")
-    private String thriftServerUrl;
+    public static final String LICENSES_CACHE = "licenses";
 
+    @Value("${sw360.license-index.warm-up:true}")
+    private boolean warmUp;
+
+    @Value("${sw360.license-index.min-refresh-interval-millis:10000}")
+    private long minRefreshIntervalMillis;
+
+    @NonNull
+    private final ThriftClientPools thriftClientPools;
+
+    // index of the id, full name and short name of all licenses by id, null until the first lookup
+    private volatile Map<String, License> licenseSummariesById;
+
+    private volatile long lastRefreshMillis;
+
+    @Cacheable(cacheNames = LICENSES_CACHE)
     public List<License> getLicenses() {
         try {
             LicenseService.Iface sw360LicenseClient = getThriftLicenseClient();
@@ -40,6 +61,97 @@ public class Sw360LicenseService {
         }
     }
 
+    /**
+     * Returns a license with only its id, full name and short name, as needed for embedding it.
+     * The full license with its text, todos and risks is returned by {@link #getLicenseById}.
+     */
+    public License getLicenseSummaryById(String licenseId) {
+        Map<String, License> licenseIndex = licenseSummariesById;
+        if (licenseIndex == null) {
+            licenseIndex = refreshLicenseIndex(null);
+        }
+
+        License license = licenseIndex.get(licenseId);
+        if (license == null && System.currentTimeMillis() - lastRefreshMillis > minRefreshIntervalMillis) {
+            // the license may have been created by another sw360 client since the last refresh
+            license = refreshLicenseIndex(licenseIndex).get(licenseId);
+        }
+        if (license == null) {
+            license = indexLicense(getLicenseById(licenseId));
+        }
+        return license != null ? new License(license) : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpLicenseIndex() {
+        if (warmUp) {
+            try {
+                refreshLicenseIndex(licenseSummariesById);
+            } catch (RuntimeException e) {
+                log.warn("cannot warm up license index: " + e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${sw360.license-index.refresh-millis:600000}",
+            fixedDelayString = "${sw360.license-index.refresh-millis:600000}")
+    public void scheduledLicenseIndexRefresh() {
+        Map<String, License> licenseIndex = licenseSummariesById;
+        if (licenseIndex != null) {
+            try {
+                refreshLicenseIndex(licenseIndex);
+            } catch (RuntimeException e) {
+                log.warn("cannot refresh license index: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reloads the index unless another thread already replaced the given stale index,
+     * so concurrent misses cause a single reload.
+     */
+    synchronized Map<String, License> refreshLicenseIndex(Map<String, License> staleIndex) {
+        Map<String, License> currentIndex = licenseSummariesById;
+        if (currentIndex != staleIndex) {
+            // another thread refreshed the index in the meantime
+            return currentIndex;
+        }
+        try {
+            LicenseService.Iface sw360LicenseClient = getThriftLicenseClient();
+            Map<String, License> licenseIndex = new ConcurrentHashMap<>();
+            for (License license : sw360LicenseClient.getLicenseSummary()) {
+                if (license.getId() != null) {
+                    licenseIndex.put(license.getId(), createLicenseSummary(license));
+                }
+            }
+            licenseSummariesById = licenseIndex;
+            lastRefreshMillis = System.currentTimeMillis();
+            return licenseIndex;
+        } catch (TException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private License indexLicense(License license) {
+        Map<String, License> licenseIndex = licenseSummariesById;
+        if (license == null || license.getId() == null) {
+            return null;
+        }
+        License licenseSummary = createLicenseSummary(license);
+        if (licenseIndex != null) {
+            licenseIndex.put(license.getId(), licenseSummary);
+        }
+        return licenseSummary;
+    }
+
+    private static License createLicenseSummary(License license) {
+        License licenseSummary = new License();
+        licenseSummary.setId(license.getId());
+        licenseSummary.setFullname(license.getFullname());
+        licenseSummary.setShortname(license.getShortname());
+        return licenseSummary;
+    }
+
     public License getLicenseById(String licenseId) {
         try {
             LicenseService.Iface sw360LicenseClient = getThriftLicenseClient();
@@ -51,6 +163,7 @@ public class Sw360LicenseService {
         }
     }
 
+    @CacheEvict(cacheNames = LICENSES_CACHE, allEntries = true)
     public License createLicense(License license, User sw360User) {
         try {
             LicenseService.Iface sw360LicenseClient = getThriftLicenseClient();
@@ -58,6 +171,7 @@ public class Sw360LicenseService {
             List<License> licenses = sw360LicenseClient.addLicenses(Collections.singletonList(license), sw360User);
             for(License newlicense: licenses) {
                 if(license.getFullname().equals(newlicense.getFullname())) {
+                    indexLicense(newlicense);
                     return  newlicense;
                 }
             }
@@ -67,9 +181,7 @@ public class Sw360LicenseService {
         return null;
     }
 
-    private LicenseService.Iface getThriftLicenseClient() throws TTransportException {
-        THttpClient thriftClient = new THttpClient(thriftServerUrl + "/licenses/thrift");
-        TProtocol protocol = new TCompactProtocol(thriftClient);
-        return new LicenseService.Client(protocol);
+    private LicenseService.Iface getThriftLicenseClient() {
+        return thriftClientPools.getLicenseClient();
     }
 }
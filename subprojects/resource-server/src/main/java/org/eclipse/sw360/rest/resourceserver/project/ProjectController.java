@@ -17,35 +17,46 @@ import org.eclipse.sw360.datahandler.thrift.ProjectReleaseRelationship;
 import org.eclipse.sw360.datahandler.thrift.ReleaseRelationship;
 import org.eclipse.sw360.datahandler.thrift.projects.Project;
 import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.rest.resourceserver.core.EmbeddingBatch;
 import org.eclipse.sw360.rest.resourceserver.core.HalResource;
+import org.eclipse.sw360.rest.resourceserver.core.NdjsonResponseFactory;
+import org.eclipse.sw360.rest.resourceserver.core.ResourceSelection;
 import org.eclipse.sw360.rest.resourceserver.core.RestControllerHelper;
+import org.eclipse.sw360.rest.resourceserver.core.SelectedFieldsFilter;
+import org.eclipse.sw360.rest.resourceserver.core.Sw360Links;
+import org.eclipse.sw360.rest.resourceserver.job.Job;
+import org.eclipse.sw360.rest.resourceserver.job.JobService;
 import org.eclipse.sw360.rest.resourceserver.release.Sw360ReleaseService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.rest.webmvc.BasePathAwareController;
 import org.springframework.data.rest.webmvc.RepositoryLinksResource;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.oauth2.provider.OAuth2Authentication;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.*;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-
 @BasePathAwareController
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class ProjectController implements ResourceProcessor<RepositoryLinksResource> {
-    static final String PROJECTS_URL = "/projects";
+    public static final String PROJECTS_URL = "/projects";
 
     @NonNull
     private final Sw360ProjectService projectService;
@@ -56,38 +67,62 @@ public class ProjectController implements ResourceProcessor<RepositoryLinksResou
     @NonNull
     private final RestControllerHelper restControllerHelper;
 
+    @NonNull
+    private final NdjsonResponseFactory ndjsonResponseFactory;
+
+    @NonNull
+    private final JobService jobService;
+
     @RequestMapping(value = PROJECTS_URL, method = RequestMethod.GET)
-    public ResponseEntity<Resources<Resource<Project>>> getProjectsForUser(OAuth2Authentication oAuth2Authentication) {
+    public DeferredResult<ResponseEntity<Resources<Resource<ProjectSummary>>>> getProjectsForUser(
+            OAuth2Authentication oAuth2Authentication,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "fields", required = false) String fields,
+            WebRequest webRequest) {
+        return restControllerHelper.defer(() -> {
+            User sw360User = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
+            List<Project> projects = projectService.getProjectsForUser(sw360User);
+
+            ResourceSelection selection = ResourceSelection.of(fields, null);
+            if (restControllerHelper.isNotModified(webRequest, projects, page, size, selection,
+                    Project::getId, Project::getRevision)) {
+                return null;
+            }
+            String projectsHref = Sw360Links.current().href(PROJECTS_URL);
+            Resources<Resource<ProjectSummary>> resources = restControllerHelper.createResources(projects, page, size,
+                    project -> createSummaryResource(project, projectsHref, selection));
+
+            return new ResponseEntity<>(resources, HttpStatus.OK);
+        });
+    }
+
+    @RequestMapping(value = PROJECTS_URL, method = RequestMethod.GET, produces = NdjsonResponseFactory.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamProjectsForUser(OAuth2Authentication oAuth2Authentication) {
         User sw360User = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
         List<Project> projects = projectService.getProjectsForUser(sw360User);
 
-        List<Resource<Project>> projectResources = new ArrayList<>();
-        for (Project project : projects) {
-            // TODO Kai Tödter 2017-01-04
-            // Find better way to decrease details in list resources,
-            // e.g. apply projections or Jackson Mixins
-            project.setDescription(null);
-            project.setType(null);
-            project.setCreatedOn(null);
-            project.setReleaseIdToUsage(null);
-            project.setExternalIds(null);
-            project.setBusinessUnit(null);
-
-            Resource<Project> projectResource = new Resource<>(project);
-            projectResources.add(projectResource);
-        }
-        Resources<Resource<Project>> resources = new Resources<>(projectResources);
-
-        return new ResponseEntity<>(resources, HttpStatus.OK);
+        String projectsHref = Sw360Links.current().href(PROJECTS_URL);
+        return ndjsonResponseFactory.createResponse(projects,
+                project -> createSummaryResource(project, projectsHref, ResourceSelection.ALL));
     }
 
     @RequestMapping(PROJECTS_URL + "/{id}")
-    public ResponseEntity<Resource<Project>> getProject(
-            @PathVariable("id") String id, OAuth2Authentication oAuth2Authentication) {
-        User sw360User = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
-        Project sw360Project = projectService.getProjectForUserById(id, sw360User);
-        HalResource<Project> userHalResource = createHalProject(sw360Project, sw360User);
-        return new ResponseEntity<>(userHalResource, HttpStatus.OK);
+    public DeferredResult<ResponseEntity<Resource<Project>>> getProject(
+            @PathVariable("id") String id, OAuth2Authentication oAuth2Authentication,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestParam(value = "embed", required = false) String embed,
+            WebRequest webRequest) {
+        return restControllerHelper.defer(() -> {
+            User sw360User = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
+            Project sw360Project = projectService.getProjectForUserById(id, sw360User);
+            ResourceSelection selection = ResourceSelection.of(fields, embed);
+            if (restControllerHelper.isNotModified(webRequest, sw360Project.getRevision(), selection)) {
+                return null;
+            }
+            HalResource<Project> userHalResource = createHalProject(sw360Project, sw360User, selection);
+            return new ResponseEntity<>(userHalResource, HttpStatus.OK);
+        });
     }
 
     @RequestMapping(value = PROJECTS_URL, method = RequestMethod.POST)
@@ -109,7 +144,7 @@ public class ProjectController implements ResourceProcessor<RepositoryLinksResou
 
         User sw360User = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
         project = projectService.createProject(project, sw360User);
-        HalResource<Project> halResource = createHalProject(project, sw360User);
+        HalResource<Project> halResource = createHalProject(project, sw360User, ResourceSelection.ALL);
 
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequest().path("/{id}")
@@ -118,6 +153,21 @@ public class ProjectController implements ResourceProcessor<RepositoryLinksResou
         return ResponseEntity.created(location).body(halResource);
     }
 
+    @PreAuthorize("@restControllerHelper.isSw360Admin(authentication)")
+    @RequestMapping(value = PROJECTS_URL, method = RequestMethod.DELETE)
+    public ResponseEntity<Resource<Job>> deleteProjects(
+            OAuth2Authentication oAuth2Authentication,
+            @RequestParam(value = "confirm", defaultValue = "false") boolean confirm) {
+        restControllerHelper.requireConfirmation(confirm, "deleting all projects");
+        User sw360User = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
+        Job job = jobService.submit("deleteProjects", sw360User,
+                () -> projectService.loadProjectsForUser(sw360User),
+                Project::getId,
+                project -> restControllerHelper.deleteBulkItem(project.getId(),
+                        () -> projectService.deleteProject(project, sw360User)));
+        return restControllerHelper.createJobAcceptedResponse(job);
+    }
+
     @RequestMapping(value = PROJECTS_URL + "/{id}/Releases", method = RequestMethod.POST)
     public ResponseEntity createReleases(
             @PathVariable("id") String id,
@@ -141,15 +191,25 @@ public class ProjectController implements ResourceProcessor<RepositoryLinksResou
 
     @Override
     public RepositoryLinksResource process(RepositoryLinksResource resource) {
-        resource.add(linkTo(ProjectController.class).slash("api" + PROJECTS_URL).withRel("projects"));
+        resource.add(Sw360Links.current().collectionLink(PROJECTS_URL, "projects"));
         return resource;
     }
 
-    private HalResource<Project> createHalProject(Project sw360Project, User sw360User) {
+    private Resource<ProjectSummary> createSummaryResource(Project project, String projectsHref, ResourceSelection selection) {
+        ProjectSummary projectSummary = ProjectSummary.from(project);
+        SelectedFieldsFilter.select(projectSummary, selection);
+        return new Resource<>(projectSummary, new Link(projectsHref + "/" + project.getId()));
+    }
+
+    private HalResource<Project> createHalProject(Project sw360Project, User sw360User, ResourceSelection selection) {
 
         HalResource<Project> halProject = new HalResource<>(sw360Project);
+        SelectedFieldsFilter.select(sw360Project, selection);
+        EmbeddingBatch embeddingBatch = restControllerHelper.newEmbeddingBatch();
 
-        restControllerHelper.addEmbeddedUser(halProject, sw360User, "createdBy");
+        if (selection.embeds("createdBy")) {
+            restControllerHelper.addEmbeddedUser(halProject, sw360User, "createdBy");
+        }
         Set<String> releaseIds = new HashSet<>();
         if (sw360Project.getReleaseIdToUsage() != null) {
             Map<String, ProjectReleaseRelationship> releaseIdToUsage = sw360Project.getReleaseIdToUsage();
@@ -158,14 +218,17 @@ public class ProjectController implements ResourceProcessor<RepositoryLinksResou
                     releaseIds.add(releaseId);
                 }
             }
-            restControllerHelper.addEmbeddedReleases(halProject, releaseIds, releaseService, sw360User, "containedReleases");
+            if (selection.embeds("containedReleases")) {
+                restControllerHelper.addEmbeddedReleases(embeddingBatch, halProject, releaseIds, releaseService, sw360User, "containedReleases");
+            }
             sw360Project.setReleaseIdToUsage(null);
         }
-        if (sw360Project.getModerators() != null) {
+        if (sw360Project.getModerators() != null && selection.embeds("moderators")) {
             Set<String> moderators = sw360Project.getModerators();
             restControllerHelper.addEmbeddedModerators(halProject, moderators);
         }
 
+        embeddingBatch.resolve();
         return halProject;
     }
 }
@@ -11,13 +11,12 @@ package org.eclipse.sw360.rest.resourceserver.project;
 
 import lombok.RequiredArgsConstructor;
 import org.eclipse.sw360.datahandler.thrift.projects.Project;
+import org.eclipse.sw360.rest.resourceserver.core.Sw360Links;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-
 
 @Component
 @RequiredArgsConstructor
@@ -26,8 +25,7 @@ class ProjectResourceProcessor implements ResourceProcessor<Resource<Project>> {
     @Override
     public Resource<Project> process(Resource<Project> resource) {
         Project project = resource.getContent();
-        Link selfLink = linkTo(ProjectController.class)
-                .slash("api" + ProjectController.PROJECTS_URL + "/" + project.getId()).withSelfRel();
+        Link selfLink = Sw360Links.current().selfLink(ProjectController.PROJECTS_URL, project.getId());
         resource.add(selfLink);
         return resource;
     }
@@ -0,0 +1,36 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.project;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Value;
+import org.eclipse.sw360.datahandler.thrift.projects.Project;
+import org.eclipse.sw360.datahandler.thrift.projects.ProjectType;
+import org.eclipse.sw360.rest.resourceserver.core.SelectedFieldsFilter;
+import org.springframework.hateoas.core.Relation;
+
+/**
+ * The fields of a project shown in the projects list. List resources are built from this
+ * projection, so only these fields are serialized and the thrift object stays untouched.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonFilter(SelectedFieldsFilter.FILTER_ID)
+@Relation(value = "project", collectionRelation = "projects")
+public class ProjectSummary {
+    String name;
+    String version;
+    ProjectType projectType;
+
+    public static ProjectSummary from(Project project) {
+        return new ProjectSummary(project.getName(), project.getVersion(), project.getProjectType());
+    }
+}
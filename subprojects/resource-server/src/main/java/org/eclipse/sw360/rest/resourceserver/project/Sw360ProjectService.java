@@ -9,21 +9,20 @@
 
 package org.eclipse.sw360.rest.resourceserver.project;
 
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TCompactProtocol;
-import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.THttpClient;
-import org.apache.thrift.transport.TTransportException;
 import org.eclipse.sw360.datahandler.thrift.AddDocumentRequestStatus;
 import org.eclipse.sw360.datahandler.thrift.AddDocumentRequestSummary;
 import org.eclipse.sw360.datahandler.thrift.RequestStatus;
 import org.eclipse.sw360.datahandler.thrift.projects.Project;
 import org.eclipse.sw360.datahandler.thrift.projects.ProjectService;
 import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.rest.resourceserver.thrift.ThriftClientPools;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
@@ -33,10 +32,20 @@ import java.util.List;
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class Sw360ProjectService {
-    @Value("${sw360.thrift-server-url:http://localhost:8080}")
-    private String thriftServerUrl;
+    public static final String PROJECTS_CACHE = "projects";
 
+    @NonNull
+    private final ThriftClientPools thriftClientPools;
+
+    @Cacheable(cacheNames = PROJECTS_CACHE, key = "#sw360User.email")
     public List<Project> getProjectsForUser(User sw360User) {
+        return loadProjectsForUser(sw360User);
+    }
+
+    /**
+     * @return the projects accessible by the user as currently stored in the backend, bypassing the cache
+     */
+    public List<Project> loadProjectsForUser(User sw360User) {
         try {
             ProjectService.Iface sw360ProjectClient = getThriftProjectClient();
             return sw360ProjectClient.getAccessibleProjectsSummary(sw360User);
@@ -54,6 +63,7 @@ public class Sw360ProjectService {
         }
     }
 
+    @CacheEvict(cacheNames = PROJECTS_CACHE, allEntries = true)
     public Project createProject(Project project, User sw360User) {
         try {
             ProjectService.Iface sw360ProjectClient = getThriftProjectClient();
@@ -70,6 +80,7 @@ public class Sw360ProjectService {
         return null;
     }
 
+    @CacheEvict(cacheNames = PROJECTS_CACHE, allEntries = true)
     public void updateProject(Project project, User sw360User) {
         try {
             ProjectService.Iface sw360ProjectClient = getThriftProjectClient();
@@ -83,6 +94,7 @@ public class Sw360ProjectService {
         }
     }
 
+    @CacheEvict(cacheNames = PROJECTS_CACHE, allEntries = true)
     public void deleteProject(Project project, User sw360User) {
         try {
             ProjectService.Iface sw360ProjectClient = getThriftProjectClient();
@@ -96,21 +108,7 @@ public class Sw360ProjectService {
         }
     }
 
-    public void deleteAllProjects(User sw360User) {
-        try {
-            ProjectService.Iface sw360ProjectClient = getThriftProjectClient();
-            List<Project> projects = sw360ProjectClient.getAccessibleProjectsSummary(sw360User);
-            for(Project project: projects) {
-                sw360ProjectClient.deleteProject(project.getId(), sw360User);
-            }
-        } catch (TException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private ProjectService.Iface getThriftProjectClient() throws TTransportException {
-        THttpClient thriftClient = new THttpClient(thriftServerUrl + "/projects/thrift");
-        TProtocol protocol = new TCompactProtocol(thriftClient);
-        return new ProjectService.Client(protocol);
+    private ProjectService.Iface getThriftProjectClient() {
+        return thriftClientPools.getProjectClient();
     }
 }
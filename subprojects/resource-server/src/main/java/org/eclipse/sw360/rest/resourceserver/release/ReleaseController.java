@@ -14,11 +14,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.sw360.datahandler.thrift.components.Release;
 import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.rest.resourceserver.core.BadRequestException;
+import org.eclipse.sw360.rest.resourceserver.core.BulkItemStatus;
 import org.eclipse.sw360.rest.resourceserver.core.HalResource;
+import org.eclipse.sw360.rest.resourceserver.core.NdjsonResponseFactory;
+import org.eclipse.sw360.rest.resourceserver.core.ResourceSelection;
 import org.eclipse.sw360.rest.resourceserver.core.RestControllerHelper;
+import org.eclipse.sw360.rest.resourceserver.core.SelectedFieldsFilter;
+import org.eclipse.sw360.rest.resourceserver.core.Sw360Links;
+import org.eclipse.sw360.rest.resourceserver.job.Job;
+import org.eclipse.sw360.rest.resourceserver.job.JobService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.rest.webmvc.BasePathAwareController;
 import org.springframework.data.rest.webmvc.RepositoryLinksResource;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.Resources;
@@ -29,13 +38,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.*;
-
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+import java.util.function.Function;
 
 @BasePathAwareController
 @Slf4j
@@ -49,34 +61,62 @@ public class ReleaseController implements ResourceProcessor<RepositoryLinksResou
     @NonNull
     private final RestControllerHelper restControllerHelper;
 
+    @NonNull
+    private final NdjsonResponseFactory ndjsonResponseFactory;
+
+    @NonNull
+    private final JobService jobService;
+
     @RequestMapping(value = RELEASES_URL)
-    public ResponseEntity<Resources<Resource>> getReleasesForUser(OAuth2Authentication oAuth2Authentication) {
+    public DeferredResult<ResponseEntity<Resources<Resource<ReleaseSummary>>>> getReleasesForUser(
+            OAuth2Authentication oAuth2Authentication,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "fields", required = false) String fields,
+            WebRequest webRequest) {
+        return restControllerHelper.defer(() -> {
+            User sw360User = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
+            List<Release> releases = releaseService.getReleasesForUser(sw360User);
+
+            ResourceSelection selection = ResourceSelection.of(fields, null);
+            if (restControllerHelper.isNotModified(webRequest, releases, page, size, selection,
+                    Release::getId, Release::getRevision)) {
+                return null;
+            }
+            String releasesHref = Sw360Links.current().href(RELEASES_URL);
+            Resources<Resource<ReleaseSummary>> resources = restControllerHelper.createResources(releases, page, size,
+                    release -> createSummaryResource(release, releasesHref, selection));
+
+            return new ResponseEntity<>(resources, HttpStatus.OK);
+        });
+    }
+
+    @RequestMapping(value = RELEASES_URL, produces = NdjsonResponseFactory.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamReleasesForUser(OAuth2Authentication oAuth2Authentication) {
         User sw360User = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
         List<Release> releases = releaseService.getReleasesForUser(sw360User);
-        List<Resource> releaseResources = new ArrayList<>();
-
-        for (Release release : releases) {
-            release.setComponentId(null);
-            release.setType(null);
-            release.setAttachments(null);
-            release.setReleaseDate(null);
-            release.setVendor(null);
-            release.setMainLicenseIds(null);
-            Resource<Release> releaseResource = new Resource<>(release);
-            releaseResources.add(releaseResource);
-        }
-        Resources<Resource> resources = new Resources<>(releaseResources);
 
-        return new ResponseEntity<>(resources, HttpStatus.OK);
+        String releasesHref = Sw360Links.current().href(RELEASES_URL);
+        return ndjsonResponseFactory.createResponse(releases,
+                release -> createSummaryResource(release, releasesHref, ResourceSelection.ALL));
     }
 
     @RequestMapping(RELEASES_URL + "/{id}")
-    public ResponseEntity<Resource> getRelease(
-            @PathVariable("id") String id, OAuth2Authentication oAuth2Authentication) {
-        User sw360User = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
-        Release sw360Release = releaseService.getReleaseForUserById(id, sw360User);
-        HalResource halRelease = restControllerHelper.createHalReleaseResource(sw360Release, true);
-        return new ResponseEntity<>(halRelease, HttpStatus.OK);
+    public DeferredResult<ResponseEntity<Resource>> getRelease(
+            @PathVariable("id") String id, OAuth2Authentication oAuth2Authentication,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestParam(value = "embed", required = false) String embed,
+            WebRequest webRequest) {
+        return restControllerHelper.defer(() -> {
+            User sw360User = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
+            Release sw360Release = releaseService.getReleaseForUserById(id, sw360User);
+            ResourceSelection selection = ResourceSelection.of(fields, embed);
+            if (restControllerHelper.isNotModified(webRequest, sw360Release.getRevision(), selection)) {
+                return null;
+            }
+            HalResource halRelease = restControllerHelper.createHalReleaseResource(sw360Release, selection);
+            return new ResponseEntity<>(halRelease, HttpStatus.OK);
+        });
     }
 
     @RequestMapping(value = RELEASES_URL, method = RequestMethod.POST)
@@ -85,24 +125,13 @@ public class ReleaseController implements ResourceProcessor<RepositoryLinksResou
             @RequestBody Release release) throws URISyntaxException {
         User sw360User = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
 
-        URI componentURI = new URI(release.getComponentId());
-        String path = componentURI.getPath();
-        String componentId = path.substring(path.lastIndexOf('/') + 1);
-        release.setComponentId(componentId);
-
-        URI vendorURI = new URI(release.getVendorId());
-        path = vendorURI.getPath();
-        String vendorId = path.substring(path.lastIndexOf('/') + 1);
-        release.setVendorId(vendorId);
+        release.setComponentId(restControllerHelper.getIdFromUri(release.getComponentId()));
+        release.setVendorId(restControllerHelper.getIdFromUri(release.getVendorId()));
 
         if(release.getMainLicenseIds() != null) {
             Set<String> mainLicenseIds = new HashSet<>();
-            Set<String> mainLicenseUris = release.getMainLicenseIds();
-            for (String licenseURIString : mainLicenseUris.toArray(new String[mainLicenseUris.size()])) {
-                URI licenseURI = new URI(licenseURIString);
-                path = licenseURI.getPath();
-                String licenseId = path.substring(path.lastIndexOf('/') + 1);
-                mainLicenseIds.add(licenseId);
+            for (String licenseURIString : release.getMainLicenseIds()) {
+                mainLicenseIds.add(restControllerHelper.getIdFromUri(licenseURIString));
             }
             release.setMainLicenseIds(mainLicenseIds);
         }
@@ -117,9 +146,54 @@ public class ReleaseController implements ResourceProcessor<RepositoryLinksResou
         return ResponseEntity.created(location).body(halResource);
     }
 
+    @RequestMapping(value = RELEASES_URL + "/bulk", method = RequestMethod.POST)
+    public ResponseEntity<?> createReleases(
+            OAuth2Authentication oAuth2Authentication,
+            @RequestParam(value = "async", defaultValue = "false") boolean async,
+            @RequestBody List<Release> releases) {
+        User sw360User = restControllerHelper.getSw360UserFromAuthentication(oAuth2Authentication);
+        String releasesHref = Sw360Links.current().href(RELEASES_URL);
+
+        Function<Release, BulkItemStatus> creation = release ->
+            restControllerHelper.createBulkItem(() -> {
+                if (release.getComponentId() == null) {
+                    throw new BadRequestException("componentId is missing");
+                }
+                release.setComponentId(restControllerHelper.getIdFromUri(release.getComponentId()));
+                if (release.getVendorId() != null) {
+                    release.setVendorId(restControllerHelper.getIdFromUri(release.getVendorId()));
+                }
+                if (release.getMainLicenseIds() != null) {
+                    Set<String> mainLicenseIds = new HashSet<>();
+                    for (String licenseURIString : release.getMainLicenseIds()) {
+                        mainLicenseIds.add(restControllerHelper.getIdFromUri(licenseURIString));
+                    }
+                    release.setMainLicenseIds(mainLicenseIds);
+                }
+                Release sw360Release = releaseService.createRelease(release, sw360User);
+                return sw360Release != null ? sw360Release.getId() : null;
+            }, releasesHref);
+
+        if (async) {
+            Job job = jobService.submit("createReleases", sw360User, () -> releases, creation);
+            return restControllerHelper.createJobAcceptedResponse(job);
+        }
+        List<BulkItemStatus> statuses = new ArrayList<>(releases.size());
+        for (Release release : releases) {
+            statuses.add(creation.apply(release));
+        }
+        return new ResponseEntity<>(statuses, HttpStatus.OK);
+    }
+
     @Override
     public RepositoryLinksResource process(RepositoryLinksResource resource) {
-        resource.add(linkTo(ReleaseController.class).slash("api" + RELEASES_URL).withRel("releases"));
+        resource.add(Sw360Links.current().collectionLink(RELEASES_URL, "releases"));
         return resource;
     }
+
+    private Resource<ReleaseSummary> createSummaryResource(Release release, String releasesHref, ResourceSelection selection) {
+        ReleaseSummary releaseSummary = ReleaseSummary.from(release);
+        SelectedFieldsFilter.select(releaseSummary, selection);
+        return new Resource<>(releaseSummary, new Link(releasesHref + "/" + release.getId()));
+    }
 }
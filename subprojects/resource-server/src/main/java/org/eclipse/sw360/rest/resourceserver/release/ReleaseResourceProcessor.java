@@ -11,13 +11,12 @@ package org.eclipse.sw360.rest.resourceserver.release;
 
 import lombok.RequiredArgsConstructor;
 import org.eclipse.sw360.datahandler.thrift.components.Release;
+import org.eclipse.sw360.rest.resourceserver.core.Sw360Links;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-
 @Component
 @RequiredArgsConstructor
 class ReleaseResourceProcessor implements ResourceProcessor<Resource<Release>> {
@@ -25,8 +24,7 @@ class ReleaseResourceProcessor implements ResourceProcessor<Resource<Release>> {
     @Override
     public Resource<Release> process(Resource<Release> resource) {
         Release release = resource.getContent();
-        Link selfLink = linkTo(ReleaseController.class)
-                .slash("api" + ReleaseController.RELEASES_URL + "/" + release.getId()).withSelfRel();
+        Link selfLink = Sw360Links.current().selfLink(ReleaseController.RELEASES_URL, release.getId());
         resource.add(selfLink);
         return resource;
     }
@@ -0,0 +1,31 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.release;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Value;
+import org.eclipse.sw360.datahandler.thrift.components.Release;
+import org.eclipse.sw360.rest.resourceserver.core.SelectedFieldsFilter;
+import org.springframework.hateoas.core.Relation;
+
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonFilter(SelectedFieldsFilter.FILTER_ID)
+@Relation(value = "release", collectionRelation = "releases")
+public class ReleaseSummary {
+    String name;
+    String version;
+    String cpeId;
+
+    public static ReleaseSummary from(Release release) {
+        return new ReleaseSummary(release.getName(), release.getVersion(), release.getCpeid());
+    }
+}
@@ -9,32 +9,42 @@
 
 package org.eclipse.sw360.rest.resourceserver.release;
 
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TCompactProtocol;
-import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.THttpClient;
-import org.apache.thrift.transport.TTransportException;
 import org.eclipse.sw360.datahandler.thrift.AddDocumentRequestStatus;
 import org.eclipse.sw360.datahandler.thrift.AddDocumentRequestSummary;
 import org.eclipse.sw360.datahandler.thrift.components.ComponentService;
 import org.eclipse.sw360.datahandler.thrift.components.Release;
 import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.rest.resourceserver.thrift.ThriftClientPools;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class Sw360ReleaseService {
-    @Value("${sw360.thrift-server-url:http://localhost:8080}")
-    private String thriftServerUrl;
+    public static final String RELEASES_CACHE = "releases";
 
+    @Value("${sw360.release-batch-size:200}")
+    private int releaseBatchSize;
+
+    @NonNull
+    private final ThriftClientPools thriftClientPools;
+
+    @Cacheable(cacheNames = RELEASES_CACHE, key = "#sw360User.email")
     public List<Release> getReleasesForUser(User sw360User) {
         try {
             ComponentService.Iface sw360ComponentClient = getThriftComponentClient();
@@ -53,6 +63,36 @@ public class Sw360ReleaseService {
         }
     }
 
+    public List<Release> getReleasesForUserByIds(Set<String> releaseIds, User sw360User) {
+        if (releaseIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            ComponentService.Iface sw360ComponentClient = getThriftComponentClient();
+            if (releaseIds.size() <= releaseBatchSize) {
+                return sw360ComponentClient.getReleasesById(releaseIds, sw360User);
+            }
+
+            // large id sets are fetched in chunks to keep the thrift payloads bounded
+            List<Release> releases = new ArrayList<>(releaseIds.size());
+            Set<String> batch = new HashSet<>();
+            for (String releaseId : releaseIds) {
+                batch.add(releaseId);
+                if (batch.size() == releaseBatchSize) {
+                    releases.addAll(sw360ComponentClient.getReleasesById(batch, sw360User));
+                    batch = new HashSet<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                releases.addAll(sw360ComponentClient.getReleasesById(batch, sw360User));
+            }
+            return releases;
+        } catch (TException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @CacheEvict(cacheNames = RELEASES_CACHE, allEntries = true)
     public Release createRelease(Release release, User sw360User) {
         try {
             ComponentService.Iface sw360ComponentClient = getThriftComponentClient();
@@ -69,9 +109,7 @@ public class Sw360ReleaseService {
         return null;
     }
 
-    private ComponentService.Iface getThriftComponentClient() throws TTransportException {
-        THttpClient thriftClient = new THttpClient(thriftServerUrl + "/components/thrift");
-        TProtocol protocol = new TCompactProtocol(thriftClient);
-        return new ComponentService.Client(protocol);
+    private ComponentService.Iface getThriftComponentClient() {
+        return thriftClientPools.getComponentClient();
     }
 }
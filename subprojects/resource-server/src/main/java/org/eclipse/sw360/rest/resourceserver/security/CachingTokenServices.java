@@ -0,0 +1,110 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.security;
+
+import org.springframework.cache.Cache;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.ResourceServerTokenServices;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Remembers the authentications of verified access tokens, so a token that is used again skips the
+ * signature verification and the parsing of its claims until it expires. The cache is keyed by the
+ * SHA-256 hash of the token, the tokens themselves are not kept.
+ * Every call gets its own authentication, since the authentication manager sets the request details on it.
+ */
+public class CachingTokenServices implements ResourceServerTokenServices {
+    public static final String TOKENS_CACHE = "tokens";
+
+    private final JwtClaimsDecoder claimsDecoder;
+    private final Cache cache;
+
+    CachingTokenServices(JwtClaimsDecoder claimsDecoder, Cache cache) {
+        this.claimsDecoder = claimsDecoder;
+        this.cache = cache;
+    }
+
+    @Override
+    public OAuth2Authentication loadAuthentication(String accessToken) throws AuthenticationException, InvalidTokenException {
+        String key = hash(accessToken);
+        VerifiedToken verifiedToken = cache.get(key, VerifiedToken.class);
+        if (verifiedToken != null) {
+            if (!verifiedToken.isExpired()) {
+                return verifiedToken.newAuthentication();
+            }
+            cache.evict(key);
+        }
+
+        // the token is decoded once, invalid and expired tokens are never cached
+        Map<String, Object> claims = claimsDecoder.decodeClaims(accessToken);
+        OAuth2AccessToken token = toAccessToken(accessToken, claims);
+        if (token.isExpired()) {
+            throw new InvalidTokenException("Access token expired: " + accessToken);
+        }
+        OAuth2Authentication authentication = claimsDecoder.extractAuthentication(claims);
+        verifiedToken = new VerifiedToken(authentication.getOAuth2Request(), authentication.getUserAuthentication(),
+                token.getExpiration());
+        cache.put(key, verifiedToken);
+        return verifiedToken.newAuthentication();
+    }
+
+    @Override
+    public OAuth2AccessToken readAccessToken(String accessToken) {
+        return toAccessToken(accessToken, claimsDecoder.decodeClaims(accessToken));
+    }
+
+    private OAuth2AccessToken toAccessToken(String accessToken, Map<String, Object> claims) {
+        OAuth2AccessToken token = claimsDecoder.extractAccessToken(accessToken, claims);
+        if (claimsDecoder.isRefreshToken(token)) {
+            throw new InvalidTokenException("Encoded token is a refresh token");
+        }
+        return token;
+    }
+
+    private static String hash(String accessToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(accessToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class VerifiedToken {
+        private final OAuth2Request storedRequest;
+        private final Authentication userAuthentication;
+        private final Date expiration;
+
+        VerifiedToken(OAuth2Request storedRequest, Authentication userAuthentication, Date expiration) {
+            this.storedRequest = storedRequest;
+            this.userAuthentication = userAuthentication;
+            this.expiration = expiration;
+        }
+
+        OAuth2Authentication newAuthentication() {
+            return new OAuth2Authentication(storedRequest, userAuthentication);
+        }
+
+        boolean isExpired() {
+            return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+        }
+    }
+}
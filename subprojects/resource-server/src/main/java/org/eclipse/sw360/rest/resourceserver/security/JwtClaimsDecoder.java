@@ -0,0 +1,30 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+
+package org.eclipse.sw360.rest.resourceserver.security;
+
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+import java.util.Map;
+
+/**
+ * Verifies the signature of an access token and decodes its claims, so that the access token and the
+ * authentication can both be extracted from a single decoding.
+ */
+class JwtClaimsDecoder extends JwtAccessTokenConverter {
+
+    /**
+     * @throws org.springframework.security.oauth2.common.exceptions.InvalidTokenException if the token is malformed
+     * or its signature is invalid
+     */
+    Map<String, Object> decodeClaims(String accessToken) {
+        return decode(accessToken);
+    }
+}
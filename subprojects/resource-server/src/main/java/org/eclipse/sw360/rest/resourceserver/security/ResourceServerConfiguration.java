@@ -9,7 +9,9 @@
 
 package org.eclipse.sw360.rest.resourceserver.security;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -30,9 +32,20 @@ public class ResourceServerConfiguration  extends WebSecurityConfigurerAdapter i
     @Value("${security.oauth2.resource.id:sw360-REST-API}")
     private String resourceId;
 
+    // the public key the access tokens are verified with
+    @Value("${security.oauth2.resource.jwt.keyValue}")
+    private String jwtKeyValue;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     @Override
-    public void configure(ResourceServerSecurityConfigurer resources) {
+    public void configure(ResourceServerSecurityConfigurer resources) throws Exception {
         resources.resourceId(resourceId);
+        JwtClaimsDecoder claimsDecoder = new JwtClaimsDecoder();
+        claimsDecoder.setVerifierKey(jwtKeyValue);
+        claimsDecoder.afterPropertiesSet();
+        resources.tokenServices(new CachingTokenServices(claimsDecoder, cacheManager.getCache(CachingTokenServices.TOKENS_CACHE)));
     }
 
     @Override
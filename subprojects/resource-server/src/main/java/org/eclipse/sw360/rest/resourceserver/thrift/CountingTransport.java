@@ -0,0 +1,75 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.thrift;
+
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+/**
+ * Counts the bytes written to and read from a transport since the last reset.
+ * A transport is only used by the thread that borrowed its client, so the counters need no synchronization.
+ */
+class CountingTransport extends TTransport {
+    private final TTransport transport;
+    private long bytesWritten;
+    private long bytesRead;
+
+    CountingTransport(TTransport transport) {
+        this.transport = transport;
+    }
+
+    long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    long getBytesRead() {
+        return bytesRead;
+    }
+
+    void resetCounts() {
+        bytesWritten = 0;
+        bytesRead = 0;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return transport.isOpen();
+    }
+
+    @Override
+    public void open() throws TTransportException {
+        transport.open();
+    }
+
+    @Override
+    public void close() {
+        transport.close();
+    }
+
+    @Override
+    public int read(byte[] buf, int off, int len) throws TTransportException {
+        int read = transport.read(buf, off, len);
+        if (read > 0) {
+            bytesRead += read;
+        }
+        return read;
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len) throws TTransportException {
+        transport.write(buf, off, len);
+        bytesWritten += len;
+    }
+
+    @Override
+    public void flush() throws TTransportException {
+        transport.flush();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.thrift;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the Thrift backend calls of the request as Server-Timing header, just before the body is written.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    @Value("${sw360.thrift-client.server-timing-header:true}")
+    private boolean serverTimingHeader;
+
+    @NonNull
+    private final ThriftCallMetrics thriftCallMetrics;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return serverTimingHeader;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        ThriftRequestAccount requestAccount = thriftCallMetrics.getRequestAccount();
+        if (requestAccount != null) {
+            response.getHeaders().set(SERVER_TIMING_HEADER, requestAccount.toServerTiming());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.thrift;
+
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records every call to the Thrift backend, labelled by service and method,
+ * e.g. sw360.thrift.calls.ComponentService.getReleaseById.count.
+ * Latencies and the number of backend calls of an inbound request are recorded as histograms
+ * with cumulative buckets, named like the Prometheus "le" buckets.
+ */
+@Component
+public class ThriftCallMetrics implements PublicMetrics {
+    private static final String PREFIX = "sw360.thrift.";
+    private static final String ACCOUNT_ATTRIBUTE = ThriftCallMetrics.class.getName() + ".account";
+    private static final long[] LATENCY_BUCKETS_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+    private static final long[] CALLS_PER_REQUEST_BUCKETS = {0, 1, 2, 5, 10, 20, 50, 100, 200, 500};
+
+    private final Map<String, CallStats> callStats = new ConcurrentHashMap<>();
+    private final Histogram callsPerRequest = new Histogram(CALLS_PER_REQUEST_BUCKETS);
+
+    void recordCall(String label, long nanos, boolean failed, long bytesSent, long bytesReceived) {
+        CallStats stats = callStats.computeIfAbsent(label, key -> new CallStats());
+        stats.latencyMillis.record(TimeUnit.NANOSECONDS.toMillis(nanos));
+        stats.bytesSent.add(bytesSent);
+        stats.bytesReceived.add(bytesReceived);
+        if (failed) {
+            stats.errors.increment();
+        }
+
+        ThriftRequestAccount requestAccount = getRequestAccount();
+        if (requestAccount != null) {
+            requestAccount.record(label, nanos);
+        }
+    }
+
+    /**
+     * Starts the accounting of the backend calls of an inbound request.
+     */
+    ThriftRequestAccount startRequest(RequestAttributes requestAttributes) {
+        ThriftRequestAccount requestAccount = new ThriftRequestAccount();
+        requestAttributes.setAttribute(ACCOUNT_ATTRIBUTE, requestAccount, RequestAttributes.SCOPE_REQUEST);
+        return requestAccount;
+    }
+
+    /**
+     * @return the backend calls of the current request so far, or null outside of an accounted request
+     */
+    public ThriftRequestAccount getRequestAccount() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return requestAttributes != null ? getRequestAccount(requestAttributes) : null;
+    }
+
+    ThriftRequestAccount getRequestAccount(RequestAttributes requestAttributes) {
+        try {
+            return (ThriftRequestAccount) requestAttributes.getAttribute(ACCOUNT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        } catch (IllegalStateException e) {
+            // a lookup that outlived its request, the request has already been accounted
+            return null;
+        }
+    }
+
+    void recordRequest(int calls) {
+        callsPerRequest.record(calls);
+    }
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        List<Metric<?>> metrics = new ArrayList<>();
+        for (Map.Entry<String, CallStats> entry : callStats.entrySet()) {
+            String name = PREFIX + "calls." + entry.getKey();
+            CallStats stats = entry.getValue();
+            stats.latencyMillis.addMetrics(metrics, name + ".time");
+            metrics.add(new Metric<>(name + ".count", stats.latencyMillis.count.sum()));
+            metrics.add(new Metric<>(name + ".errors", stats.errors.sum()));
+            metrics.add(new Metric<>(name + ".bytes-sent", stats.bytesSent.sum()));
+            metrics.add(new Metric<>(name + ".bytes-received", stats.bytesReceived.sum()));
+        }
+        callsPerRequest.addMetrics(metrics, PREFIX + "calls-per-request");
+        return metrics;
+    }
+
+    private static class CallStats {
+        private final Histogram latencyMillis = new Histogram(LATENCY_BUCKETS_MILLIS);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder bytesSent = new LongAdder();
+        private final LongAdder bytesReceived = new LongAdder();
+    }
+
+    private static class Histogram {
+        private final long[] bounds;
+        private final LongAdder[] buckets;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        Histogram(long[] bounds) {
+            this.bounds = bounds;
+            this.buckets = new LongAdder[bounds.length];
+            for (int i = 0; i < bounds.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long value) {
+            for (int i = 0; i < bounds.length; i++) {
+                if (value <= bounds[i]) {
+                    buckets[i].increment();
+                    break;
+                }
+            }
+            count.increment();
+            sum.add(value);
+            max.accumulateAndGet(value, Math::max);
+        }
+
+        void addMetrics(List<Metric<?>> metrics, String name) {
+            long total = count.sum();
+            long cumulative = 0;
+            for (int i = 0; i < bounds.length; i++) {
+                cumulative += buckets[i].sum();
+                metrics.add(new Metric<>(name + ".le-" + bounds[i], cumulative));
+            }
+            metrics.add(new Metric<>(name + ".le-inf", total));
+            metrics.add(new Metric<>(name + ".mean", total == 0 ? 0.0 : (double) sum.sum() / total));
+            metrics.add(new Metric<>(name + ".max", max.get()));
+        }
+    }
+}
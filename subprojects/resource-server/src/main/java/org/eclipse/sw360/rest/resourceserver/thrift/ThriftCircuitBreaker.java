@@ -0,0 +1,116 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.thrift;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opens after a number of consecutive transport failures of a service, for example timeouts.
+ * While open, calls fail immediately. After the open time a single trial call is let through,
+ * which closes the breaker again if it succeeds. Errors reported by the service itself do not count,
+ * since the service answered.
+ */
+@Slf4j
+class ThriftCircuitBreaker {
+    private static final long CLOSED = -1;
+
+    private final String serviceName;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialCallRunning = new AtomicBoolean();
+    private final LongAdder rejectedCalls = new LongAdder();
+    private volatile long openedMillis = CLOSED;
+
+    ThriftCircuitBreaker(String serviceName, int failureThreshold, long openMillis) {
+        this.serviceName = serviceName;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * @return the permit of a call that may be made, or null if the breaker is open. The permit must then be
+     * passed to exactly one of {@link #onSuccess}, {@link #onFailure} or {@link #onAbandoned}
+     */
+    Permit tryAcquire() {
+        long opened = openedMillis;
+        if (opened == CLOSED) {
+            return Permit.CALL;
+        }
+        if (System.currentTimeMillis() - opened >= openMillis && trialCallRunning.compareAndSet(false, true)) {
+            return Permit.TRIAL_CALL;
+        }
+        rejectedCalls.increment();
+        return null;
+    }
+
+    void onSuccess(Permit permit) {
+        consecutiveFailures.set(0);
+        if (permit.isTrial()) {
+            openedMillis = CLOSED;
+            trialCallRunning.set(false);
+            log.info("circuit breaker for {} is closed again", serviceName);
+        }
+    }
+
+    void onFailure(Permit permit) {
+        if (permit.isTrial()) {
+            openedMillis = System.currentTimeMillis();
+            trialCallRunning.set(false);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && openedMillis == CLOSED) {
+            openedMillis = System.currentTimeMillis();
+            log.warn("circuit breaker for {} is open after {} failed calls, calls fail for the next {} ms",
+                    serviceName, consecutiveFailures.get(), openMillis);
+        }
+    }
+
+    /**
+     * The permitted call was not made, for example because no client was available.
+     */
+    void onAbandoned(Permit permit) {
+        if (permit.isTrial()) {
+            trialCallRunning.set(false);
+        }
+    }
+
+    boolean isOpen() {
+        return openedMillis != CLOSED;
+    }
+
+    long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+    /**
+     * Tells whether a call is the trial call of the half-open breaker. Only the outcome of the trial call
+     * decides whether the breaker closes, calls that were started before the breaker opened do not.
+     */
+    static final class Permit {
+        static final Permit CALL = new Permit(false);
+        static final Permit TRIAL_CALL = new Permit(true);
+
+        private final boolean trial;
+
+        private Permit(boolean trial) {
+            this.trial = trial;
+        }
+
+        boolean isTrial() {
+            return trial;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.thrift;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.apache.http.client.HttpClient;
+import org.apache.thrift.TServiceClient;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.THttpClient;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Function;
+
+/**
+ * A bounded pool of Thrift clients for one sw360 service endpoint.
+ * The pool hands out a thread safe proxy of the service interface;
+ * every call on the proxy borrows a client, invokes it and returns it.
+ * The size of the pool limits the concurrent calls to the service, so a slow
+ * service cannot occupy the threads and connections needed for the others.
+ */
+@Slf4j
+public class ThriftClientPool<T> implements InvocationHandler {
+
+    private final String serviceName;
+    private final GenericObjectPool<T> pool;
+    private final T proxy;
+    private final ThriftCallMetrics callMetrics;
+    private final ThriftCircuitBreaker circuitBreaker;
+
+    ThriftClientPool(String serviceName,
+                     String serviceUrl,
+                     Class<T> serviceInterface,
+                     Function<TProtocol, T> clientFactory,
+                     HttpClient httpClient,
+                     GenericObjectPoolConfig poolConfig,
+                     ThriftCallMetrics callMetrics,
+                     ThriftCircuitBreaker circuitBreaker) {
+        this.serviceName = serviceName;
+        this.callMetrics = callMetrics;
+        this.circuitBreaker = circuitBreaker;
+        this.pool = new GenericObjectPool<>(new ClientFactory<>(serviceUrl, clientFactory, httpClient), poolConfig);
+        this.proxy = serviceInterface.cast(Proxy.newProxyInstance(
+                serviceInterface.getClassLoader(), new Class<?>[]{serviceInterface}, this));
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public T getClient() {
+        return proxy;
+    }
+
+    public int getNumActive() {
+        return pool.getNumActive();
+    }
+
+    public int getNumIdle() {
+        return pool.getNumIdle();
+    }
+
+    public int getNumWaiters() {
+        return pool.getNumWaiters();
+    }
+
+    public int getMaxTotal() {
+        return pool.getMaxTotal();
+    }
+
+    public long getCreatedCount() {
+        return pool.getCreatedCount();
+    }
+
+    public long getDestroyedCount() {
+        return pool.getDestroyedCount();
+    }
+
+    public long getMeanBorrowWaitTimeMillis() {
+        return pool.getMeanBorrowWaitTimeMillis();
+    }
+
+    public boolean isCircuitOpen() {
+        return circuitBreaker.isOpen();
+    }
+
+    public long getRejectedCalls() {
+        return circuitBreaker.getRejectedCalls();
+    }
+
+    void close() {
+        pool.close();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(this, args);
+        }
+
+        ThriftCircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+        if (permit == null) {
+            throw new ThriftServiceUnavailableException("circuit breaker for " + serviceName + " is open");
+        }
+        T client;
+        try {
+            client = pool.borrowObject();
+        } catch (Exception e) {
+            circuitBreaker.onAbandoned(permit);
+            throw new ThriftServiceUnavailableException("cannot borrow thrift client for " + serviceName, e);
+        }
+
+        CountingTransport transport = getCountingTransport(client);
+        if (transport != null) {
+            transport.resetCounts();
+        }
+        boolean broken = false;
+        boolean failed = true;
+        long start = System.nanoTime();
+        try {
+            Object result = method.invoke(client, args);
+            failed = false;
+            return result;
+        } catch (InvocationTargetException e) {
+            // a transport error leaves the client in an undefined state, so it must not be reused
+            broken = e.getCause() instanceof TTransportException;
+            throw e.getCause();
+        } finally {
+            long nanos = System.nanoTime() - start;
+            // the counts are read before the client is released to the next caller
+            long bytesSent = transport != null ? transport.getBytesWritten() : 0;
+            long bytesReceived = transport != null ? transport.getBytesRead() : 0;
+            try {
+                if (broken) {
+                    invalidate(client);
+                } else {
+                    pool.returnObject(client);
+                }
+            } finally {
+                recordOutcome(permit, method.getName(), nanos, broken, failed, bytesSent, bytesReceived);
+            }
+        }
+    }
+
+    /**
+     * The bookkeeping must never replace the exception or the result of the call.
+     */
+    private void recordOutcome(ThriftCircuitBreaker.Permit permit, String methodName, long nanos,
+                               boolean broken, boolean failed, long bytesSent, long bytesReceived) {
+        try {
+            if (broken) {
+                circuitBreaker.onFailure(permit);
+            } else {
+                circuitBreaker.onSuccess(permit);
+            }
+            callMetrics.recordCall(serviceName + "." + methodName, nanos, failed, bytesSent, bytesReceived);
+        } catch (RuntimeException e) {
+            log.warn("cannot record thrift call " + serviceName + "." + methodName, e);
+        }
+    }
+
+    private CountingTransport getCountingTransport(T client) {
+        if (client instanceof TServiceClient) {
+            TTransport transport = ((TServiceClient) client).getInputProtocol().getTransport();
+            if (transport instanceof CountingTransport) {
+                return (CountingTransport) transport;
+            }
+        }
+        return null;
+    }
+
+    private void invalidate(T client) {
+        try {
+            pool.invalidateObject(client);
+        } catch (Exception e) {
+            log.warn("cannot invalidate thrift client for " + serviceName, e);
+        }
+    }
+
+    private static class ClientFactory<T> extends BasePooledObjectFactory<T> {
+        private final String serviceUrl;
+        private final Function<TProtocol, T> clientFactory;
+        private final HttpClient httpClient;
+
+        ClientFactory(String serviceUrl, Function<TProtocol, T> clientFactory, HttpClient httpClient) {
+            this.serviceUrl = serviceUrl;
+            this.clientFactory = clientFactory;
+            this.httpClient = httpClient;
+        }
+
+        @Override
+        public T create() throws Exception {
+            THttpClient thriftClient = new THttpClient(serviceUrl, httpClient);
+            TProtocol protocol = new TCompactProtocol(new CountingTransport(thriftClient));
+            return clientFactory.apply(protocol);
+        }
+
+        @Override
+        public PooledObject<T> wrap(T client) {
+            return new DefaultPooledObject<>(client);
+        }
+
+        @Override
+        public void destroyObject(PooledObject<T> pooledClient) {
+            T client = pooledClient.getObject();
+            if (client instanceof TServiceClient) {
+                ((TServiceClient) client).getInputProtocol().getTransport().close();
+            }
+        }
+    }
+}
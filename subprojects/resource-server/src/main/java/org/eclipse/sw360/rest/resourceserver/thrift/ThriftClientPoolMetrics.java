@@ -0,0 +1,55 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.thrift;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.http.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class ThriftClientPoolMetrics implements PublicMetrics {
+    private static final String PREFIX = "sw360.thrift.";
+
+    @NonNull
+    private final ThriftClientPools thriftClientPools;
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        List<Metric<?>> metrics = new ArrayList<>();
+        for (ThriftClientPool<?> pool : thriftClientPools.getPools()) {
+            String name = PREFIX + "pool." + pool.getServiceName();
+            metrics.add(new Metric<>(name + ".active", pool.getNumActive()));
+            metrics.add(new Metric<>(name + ".idle", pool.getNumIdle()));
+            metrics.add(new Metric<>(name + ".waiters", pool.getNumWaiters()));
+            metrics.add(new Metric<>(name + ".max", pool.getMaxTotal()));
+            metrics.add(new Metric<>(name + ".created", pool.getCreatedCount()));
+            metrics.add(new Metric<>(name + ".destroyed", pool.getDestroyedCount()));
+            metrics.add(new Metric<>(name + ".borrow-wait.mean", pool.getMeanBorrowWaitTimeMillis()));
+            metrics.add(new Metric<>(name + ".circuit-open", pool.isCircuitOpen() ? 1 : 0));
+            metrics.add(new Metric<>(name + ".circuit-rejected", pool.getRejectedCalls()));
+        }
+
+        PoolStats connectionStats = thriftClientPools.getConnectionStats();
+        metrics.add(new Metric<>(PREFIX + "connections.leased", connectionStats.getLeased()));
+        metrics.add(new Metric<>(PREFIX + "connections.available", connectionStats.getAvailable()));
+        metrics.add(new Metric<>(PREFIX + "connections.pending", connectionStats.getPending()));
+        metrics.add(new Metric<>(PREFIX + "connections.max", connectionStats.getMax()));
+        return metrics;
+    }
+}
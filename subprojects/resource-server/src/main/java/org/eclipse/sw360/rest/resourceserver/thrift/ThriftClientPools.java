@@ -0,0 +1,192 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.thrift;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.thrift.protocol.TProtocol;
+import org.eclipse.sw360.datahandler.thrift.components.ComponentService;
+import org.eclipse.sw360.datahandler.thrift.licenses.LicenseService;
+import org.eclipse.sw360.datahandler.thrift.projects.ProjectService;
+import org.eclipse.sw360.datahandler.thrift.users.UserService;
+import org.eclipse.sw360.datahandler.thrift.vendors.VendorService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Provides pooled Thrift clients for the sw360 backend services.
+ * All pools share one HTTP client, so keep-alive connections to the
+ * backend are reused across requests. Every service has its own limit of
+ * concurrent calls and its own circuit breaker, the connection pool is sized
+ * for the sum of these limits.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class ThriftClientPools implements DisposableBean {
+    private static final String PROJECT_SERVICE = "ProjectService";
+    private static final String COMPONENT_SERVICE = "ComponentService";
+    private static final String VENDOR_SERVICE = "VendorService";
+    private static final String LICENSE_SERVICE = "LicenseService";
+    private static final String USER_SERVICE = "UserService";
+    private static final List<String> SERVICE_NAMES =
+            Arrays.asList(PROJECT_SERVICE, COMPONENT_SERVICE, VENDOR_SERVICE, LICENSE_SERVICE, USER_SERVICE);
+
+    @NonNull
+    private final ThriftCallMetrics callMetrics;
+
+    @NonNull
+    private final Environment environment;
+
+    @Value("${sw360.thrift-server-url:http://localhost:8080}")
+    private String thriftServerUrl;
+
+    @Value("${sw360.thrift-client.max-connections:64}")
+    private int maxConnections;
+
+    @Value("${sw360.thrift-client.pool-max-total:16}")
+    private int poolMaxTotal;
+
+    @Value("${sw360.thrift-client.pool-max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${sw360.thrift-client.pool-max-wait-millis:10000}")
+    private long poolMaxWaitMillis;
+
+    @Value("${sw360.thrift-client.idle-eviction-millis:60000}")
+    private long idleEvictionMillis;
+
+    @Value("${sw360.thrift-client.connect-timeout-millis:5000}")
+    private int connectTimeoutMillis;
+
+    @Value("${sw360.thrift-client.read-timeout-millis:60000}")
+    private int readTimeoutMillis;
+
+    @Value("${sw360.thrift-client.circuit-breaker.failure-threshold:5}")
+    private int circuitBreakerFailureThreshold;
+
+    @Value("${sw360.thrift-client.circuit-breaker.open-millis:30000}")
+    private long circuitBreakerOpenMillis;
+
+    private final Map<String, ThriftClientPool<?>> pools = new ConcurrentHashMap<>();
+
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    private CloseableHttpClient httpClient;
+
+    @PostConstruct
+    public void init() {
+        // every client holds at most one connection during a call, so the limits cannot exhaust the connections
+        int connections = Math.max(maxConnections, SERVICE_NAMES.stream().mapToInt(this::getMaxConcurrentCalls).sum());
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(connections);
+        connectionManager.setDefaultMaxPerRoute(connections);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMillis)
+                .setConnectionRequestTimeout(connectTimeoutMillis)
+                .setSocketTimeout(readTimeoutMillis)
+                .build();
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleEvictionMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public ProjectService.Iface getProjectClient() {
+        return getClient(PROJECT_SERVICE, "/projects/thrift", ProjectService.Iface.class, ProjectService.Client::new);
+    }
+
+    public ComponentService.Iface getComponentClient() {
+        return getClient(COMPONENT_SERVICE, "/components/thrift", ComponentService.Iface.class, ComponentService.Client::new);
+    }
+
+    public VendorService.Iface getVendorClient() {
+        return getClient(VENDOR_SERVICE, "/vendors/thrift", VendorService.Iface.class, VendorService.Client::new);
+    }
+
+    public LicenseService.Iface getLicenseClient() {
+        return getClient(LICENSE_SERVICE, "/licenses/thrift", LicenseService.Iface.class, LicenseService.Client::new);
+    }
+
+    public UserService.Iface getUserClient() {
+        return getClient(USER_SERVICE, "/users/thrift", UserService.Iface.class, UserService.Client::new);
+    }
+
+    public Collection<ThriftClientPool<?>> getPools() {
+        return Collections.unmodifiableCollection(pools.values());
+    }
+
+    public PoolStats getConnectionStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(ThriftClientPool::close);
+        pools.clear();
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("cannot close thrift http client", e);
+        }
+    }
+
+    private <T> T getClient(String serviceName, String path, Class<T> serviceInterface, Function<TProtocol, T> clientFactory) {
+        ThriftClientPool<?> pool = pools.computeIfAbsent(serviceName, name -> new ThriftClientPool<>(
+                name, thriftServerUrl + path, serviceInterface, clientFactory, httpClient, createPoolConfig(name), callMetrics,
+                new ThriftCircuitBreaker(name, circuitBreakerFailureThreshold, circuitBreakerOpenMillis)));
+        return serviceInterface.cast(pool.getClient());
+    }
+
+    /**
+     * @return the limit of concurrent calls to the service, pool-max-total unless it is configured
+     * with sw360.thrift-client.max-concurrent-calls.&lt;service name&gt;
+     */
+    private int getMaxConcurrentCalls(String serviceName) {
+        return environment.getProperty("sw360.thrift-client.max-concurrent-calls." + serviceName, Integer.class, poolMaxTotal);
+    }
+
+    private GenericObjectPoolConfig createPoolConfig(String serviceName) {
+        GenericObjectPoolConfig poolConfig = new GenericObjectPoolConfig();
+        poolConfig.setMaxTotal(getMaxConcurrentCalls(serviceName));
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(0);
+        poolConfig.setBlockWhenExhausted(true);
+        poolConfig.setMaxWaitMillis(poolMaxWaitMillis);
+        poolConfig.setMinEvictableIdleTimeMillis(idleEvictionMillis);
+        poolConfig.setTimeBetweenEvictionRunsMillis(idleEvictionMillis / 2);
+        poolConfig.setJmxEnabled(false);
+        return poolConfig;
+    }
+}
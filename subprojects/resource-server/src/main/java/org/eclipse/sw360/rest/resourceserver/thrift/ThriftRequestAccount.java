@@ -0,0 +1,74 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.thrift;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * The Thrift backend calls of one inbound request, by service and method.
+ * Calls may be recorded concurrently by the threads resolving embedded resources.
+ */
+public class ThriftRequestAccount {
+    private final Map<String, Tally> tallies = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    void record(String label, long callNanos) {
+        Tally tally = tallies.computeIfAbsent(label, key -> new Tally());
+        tally.calls.increment();
+        tally.nanos.add(callNanos);
+        calls.increment();
+        nanos.add(callNanos);
+    }
+
+    public int getCalls() {
+        return calls.intValue();
+    }
+
+    public long getMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nanos.sum());
+    }
+
+    /**
+     * @return the calls as value of a Server-Timing header, the total first and then by service and method
+     */
+    public String toServerTiming() {
+        StringBuilder serverTiming = new StringBuilder(serverTimingEntry("thrift", calls.sum(), nanos.sum()));
+        tallies.forEach((label, tally) -> serverTiming.append(", ")
+                .append(serverTimingEntry(label, tally.calls.sum(), tally.nanos.sum())));
+        return serverTiming.toString();
+    }
+
+    /**
+     * @return the calls by service and method, the most frequent first
+     */
+    public String toBreakdown() {
+        return tallies.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Tally> entry) -> entry.getValue().calls.sum()).reversed())
+                .map(entry -> entry.getKey() + "=" + entry.getValue().calls.sum()
+                        + " (" + TimeUnit.NANOSECONDS.toMillis(entry.getValue().nanos.sum()) + " ms)")
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String serverTimingEntry(String name, long calls, long nanos) {
+        return String.format(Locale.ROOT, "%s;desc=\"%d calls\";dur=%.1f", name, calls, nanos / 1_000_000.0);
+    }
+
+    private static class Tally {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
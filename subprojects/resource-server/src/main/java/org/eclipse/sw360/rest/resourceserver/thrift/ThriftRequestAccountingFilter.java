@@ -0,0 +1,86 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.thrift;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Accounts the Thrift backend calls made while handling an inbound API request.
+ * Requests answered from the caches are recorded with zero calls. A request exceeding
+ * the call budget is logged as warning with its calls by service and method,
+ * which usually points to a lookup in a loop. Requests handled asynchronously are
+ * recorded when their last dispatch has finished.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class ThriftRequestAccountingFilter extends OncePerRequestFilter {
+    @Value("${sw360.thrift-client.call-budget-per-request:50}")
+    private int callBudgetPerRequest;
+
+    @NonNull
+    private final ThriftCallMetrics thriftCallMetrics;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ServletRequestAttributes requestAttributes = new ServletRequestAttributes(request);
+        ThriftRequestAccount requestAccount = isAsyncDispatch(request)
+                ? thriftCallMetrics.getRequestAccount(requestAttributes)
+                : null;
+        if (requestAccount == null) {
+            requestAccount = thriftCallMetrics.startRequest(requestAttributes);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!isAsyncStarted(request)) {
+                recordRequest(request, requestAccount);
+            }
+        }
+    }
+
+    private void recordRequest(HttpServletRequest request, ThriftRequestAccount requestAccount) {
+        int calls = requestAccount.getCalls();
+        thriftCallMetrics.recordRequest(calls);
+        if (calls > callBudgetPerRequest) {
+            log.warn("{} {} made {} thrift calls in {} ms, more than the budget of {}: {}",
+                    request.getMethod(), request.getRequestURI(), calls, requestAccount.getMillis(),
+                    callBudgetPerRequest, requestAccount.toBreakdown());
+        } else if (log.isDebugEnabled() && calls > 0) {
+            log.debug("{} {} made {} thrift calls in {} ms: {}",
+                    request.getMethod(), request.getRequestURI(), calls, requestAccount.getMillis(),
+                    requestAccount.toBreakdown());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.thrift;
+
+import org.apache.thrift.transport.TTransportException;
+
+/**
+ * Thrown without calling the backend, when the circuit breaker of a service is open
+ * or all clients of its pool stay in use longer than the maximum wait.
+ */
+public class ThriftServiceUnavailableException extends TTransportException {
+    public ThriftServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ThriftServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -9,23 +9,29 @@
 
 package org.eclipse.sw360.rest.resourceserver.user;
 
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TCompactProtocol;
-import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.THttpClient;
-import org.apache.thrift.transport.TTransportException;
 import org.eclipse.sw360.datahandler.thrift.users.User;
 import org.eclipse.sw360.datahandler.thrift.users.UserService;
-import org.springframework.beans.factory.annotation.Value;
+import org.eclipse.sw360.rest.resourceserver.thrift.ThriftClientPools;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 @Service
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class Sw360UserService {
-    @Value("${sw360.thrift-server-url:http://localhost:8080}")
-    private String thriftServerUrl;
+    public static final String USERS_CACHE = "users";
+    public static final String ALL_USERS_CACHE = "allUsers";
 
+    @NonNull
+    private final ThriftClientPools thriftClientPools;
+
+    @Cacheable(cacheNames = ALL_USERS_CACHE)
     public List<User> getAllUsers() {
         try {
             UserService.Iface sw360UserClient = getThriftUserClient();
@@ -35,6 +41,7 @@ public class Sw360UserService {
         }
     }
 
+    @Cacheable(cacheNames = USERS_CACHE, unless = "#result == null")
     public User getUserByEmail(String email) {
         try {
             UserService.Iface sw360UserClient = getThriftUserClient();
@@ -44,9 +51,15 @@ public class Sw360UserService {
         }
     }
 
-    private UserService.Iface getThriftUserClient() throws TTransportException {
-        THttpClient thriftClient = new THttpClient(thriftServerUrl + "/users/thrift");
-        TProtocol protocol = new TCompactProtocol(thriftClient);
-        return new UserService.Client(protocol);
+    @CacheEvict(cacheNames = USERS_CACHE)
+    public void evictUser(String email) {
+    }
+
+    @CacheEvict(cacheNames = {USERS_CACHE, ALL_USERS_CACHE}, allEntries = true)
+    public void evictAllUsers() {
+    }
+
+    private UserService.Iface getThriftUserClient() {
+        return thriftClientPools.getUserClient();
     }
 }
@@ -4,6 +4,9 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.rest.resourceserver.core.ResourceSelection;
+import org.eclipse.sw360.rest.resourceserver.core.RestControllerHelper;
+import org.eclipse.sw360.rest.resourceserver.core.Sw360Links;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.rest.webmvc.BasePathAwareController;
 import org.springframework.data.rest.webmvc.RepositoryLinksResource;
@@ -13,16 +16,17 @@ import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.UnsupportedEncodingException;
-import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-
 @BasePathAwareController
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
@@ -30,30 +34,28 @@ public class UserController implements ResourceProcessor<RepositoryLinksResource
 
     protected final EntityLinks entityLinks;
 
-    static final String USERS_URL = "/users";
+    public static final String USERS_URL = "/users";
 
     @NonNull
     private final Sw360UserService userService;
 
+    @NonNull
+    private final RestControllerHelper restControllerHelper;
+
     @RequestMapping(USERS_URL)
-    public ResponseEntity<Resources<Resource<User>>> getUsers() {
+    public ResponseEntity<Resources<Resource<UserSummary>>> getUsers(
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest) {
         List<User> sw360Users = userService.getAllUsers();
 
-        List<Resource<User>> userResources = new ArrayList<>();
-        for (User sw360User : sw360Users) {
-            // TODO Kai Tödter 2017-01-04
-            // Find better way to decrease details in list resources,
-            // e.g. apply projections or Jackson Mixins
-            sw360User.setType(null);
-            sw360User.setFullname(null);
-            sw360User.setGivenname(null);
-            sw360User.setLastname(null);
-            sw360User.setDepartment(null);
-
-            Resource<User> userResource = new Resource<>(sw360User);
-            userResources.add(userResource);
+        if (restControllerHelper.isNotModified(webRequest, sw360Users, page, size, ResourceSelection.ALL,
+                User::getId, User::getRevision)) {
+            return null;
         }
-        Resources<Resource<User>> resources = new Resources<>(userResources);
+        Sw360Links links = Sw360Links.current();
+        Resources<Resource<UserSummary>> resources = restControllerHelper.createResources(sw360Users, page, size,
+                sw360User -> new Resource<>(UserSummary.from(sw360User), links.userSelfLink(sw360User.getEmail())));
 
         return new ResponseEntity<>(resources, HttpStatus.OK);
     }
@@ -61,22 +63,41 @@ public class UserController implements ResourceProcessor<RepositoryLinksResource
     @RequestMapping(USERS_URL + "/{id:.+}")
     public ResponseEntity<Resource<User>> getUser(
             @PathVariable("id") String id) {
+        User sw360User = userService.getUserByEmail(decodeId(id));
+        Resource<User> userResource = new Resource<>(sw360User);
+        return new ResponseEntity<>(userResource, HttpStatus.OK);
+    }
+
+    /**
+     * Drops a user from the user cache, e.g. after their group was changed in sw360,
+     * so the change applies to the next request instead of after the cache expiry.
+     */
+    @PreAuthorize("@restControllerHelper.isSw360Admin(authentication)")
+    @RequestMapping(value = USERS_URL + "/{id:.+}/cache", method = RequestMethod.DELETE)
+    public ResponseEntity evictUser(@PathVariable("id") String id) {
+        userService.evictUser(decodeId(id));
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @PreAuthorize("@restControllerHelper.isSw360Admin(authentication)")
+    @RequestMapping(value = USERS_URL + "/cache", method = RequestMethod.DELETE)
+    public ResponseEntity evictAllUsers() {
+        userService.evictAllUsers();
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    private static String decodeId(String id) {
         byte[] base64decodedBytes = Base64.getDecoder().decode(id);
-        String decodedId;
         try {
-            decodedId = new String(base64decodedBytes, "utf-8");
+            return new String(base64decodedBytes, "utf-8");
         } catch (UnsupportedEncodingException e) {
             throw (new RuntimeException(e));
         }
-
-        User sw360User = userService.getUserByEmail(decodedId);
-        Resource<User> userResource = new Resource<>(sw360User);
-        return new ResponseEntity<>(userResource, HttpStatus.OK);
     }
 
     @Override
     public RepositoryLinksResource process(RepositoryLinksResource resource) {
-        resource.add(linkTo(UserController.class).slash("api/users").withRel("users"));
+        resource.add(Sw360Links.current().collectionLink(USERS_URL, "users"));
         return resource;
     }
 }
@@ -11,15 +11,11 @@ package org.eclipse.sw360.rest.resourceserver.user;
 
 import lombok.RequiredArgsConstructor;
 import org.eclipse.sw360.datahandler.thrift.users.User;
-import org.springframework.hateoas.Link;
+import org.eclipse.sw360.rest.resourceserver.core.Sw360Links;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.stereotype.Component;
 
-import java.util.Base64;
-
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-
 
 @Component
 @RequiredArgsConstructor
@@ -27,14 +23,8 @@ class UserResourceProcessor implements ResourceProcessor<Resource<User>> {
 
     @Override
     public Resource<User> process(Resource<User> resource) {
-        try {
-            User user = resource.getContent();
-            String userUUID = Base64.getEncoder().encodeToString(user.getEmail().getBytes("utf-8"));
-            Link selfLink = linkTo(UserController.class).slash("api/users/" + userUUID).withSelfRel();
-            resource.add(selfLink);
-            return resource;
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        User user = resource.getContent();
+        resource.add(Sw360Links.current().userSelfLink(user.getEmail()));
+        return resource;
     }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Value;
+import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.datahandler.thrift.users.UserGroup;
+import org.springframework.hateoas.core.Relation;
+
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Relation(value = "user", collectionRelation = "users")
+public class UserSummary {
+    String email;
+    UserGroup userGroup;
+
+    public static UserSummary from(User user) {
+        return new UserSummary(user.getEmail(), user.getUserGroup());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+
+package org.eclipse.sw360.rest.resourceserver.attachment;
+
+import org.eclipse.sw360.datahandler.thrift.attachments.Attachment;
+import org.eclipse.sw360.datahandler.thrift.components.ComponentService;
+import org.eclipse.sw360.datahandler.thrift.components.Release;
+import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.rest.resourceserver.thrift.ThriftClientPools;
+import org.eclipse.sw360.rest.resourceserver.user.Sw360UserService;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.anyObject;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class Sw360AttachmentServiceTest {
+
+    private ComponentService.Iface componentClient;
+    private AttachmentIndex attachmentIndex;
+    private Sw360AttachmentService attachmentService;
+
+    private User warmUpUser;
+    private User user;
+    private Release release;
+
+    @Before
+    public void before() throws Exception {
+        componentClient = mock(ComponentService.Iface.class);
+        ThriftClientPools thriftClientPools = mock(ThriftClientPools.class);
+        given(thriftClientPools.getComponentClient()).willReturn(componentClient);
+
+        warmUpUser = new User();
+        warmUpUser.setEmail("admin@sw360.org");
+        user = new User();
+        user.setEmail("jane@sw360.org");
+        Sw360UserService userService = mock(Sw360UserService.class);
+        given(userService.getUserByEmail("admin@sw360.org")).willReturn(warmUpUser);
+
+        release = createRelease("3765276512", createAttachment("1231231254", "da373e491d3863477568896089ee9457bc316783"));
+        given(componentClient.getReleaseSummary(warmUpUser)).willReturn(Collections.singletonList(release));
+        given(componentClient.getReleaseById("3765276512", user)).willReturn(release);
+
+        attachmentIndex = new AttachmentIndex(thriftClientPools, userService);
+        ReflectionTestUtils.setField(attachmentIndex, "maxEntries", 200000);
+        ReflectionTestUtils.setField(attachmentIndex, "warmUpUserEmail", "admin@sw360.org");
+        attachmentIndex.warmUp();
+        attachmentService = new Sw360AttachmentService(thriftClientPools, attachmentIndex);
+    }
+
+    @Test
+    public void should_load_only_the_release_of_an_indexed_attachment() throws Exception {
+        AttachmentInfo attachmentInfo = attachmentService.getAttachmentBySha1ForUser("da373e491d3863477568896089ee9457bc316783", user);
+
+        assertThat(attachmentInfo.getAttachment().getAttachmentContentId(), is("1231231254"));
+        assertThat(attachmentInfo.getRelease().getId(), is("3765276512"));
+        verify(componentClient, never()).getReleaseSummary(user);
+    }
+
+    @Test
+    public void should_search_all_releases_for_an_attachment_missing_in_index() throws Exception {
+        Release newRelease = createRelease("3765276513", createAttachment("1231231255", "1a2b3c4d5e6f7a8b9c0d1e2f3a4b5c6d7e8f9a0b"));
+        given(componentClient.getReleaseSummary(user)).willReturn(Arrays.asList(release, newRelease));
+
+        AttachmentInfo attachmentInfo = attachmentService.getAttachmentByIdForUser("1231231255", user);
+        assertThat(attachmentInfo.getRelease().getId(), is("3765276513"));
+
+        // the attachment found by the search is indexed
+        given(componentClient.getReleaseById("3765276513", user)).willReturn(newRelease);
+        assertThat(attachmentService.getAttachmentByIdForUser("1231231255", user), is(notNullValue()));
+        verify(componentClient, times(1)).getReleaseSummary(user);
+        verify(componentClient, times(1)).getReleaseById("3765276513", user);
+    }
+
+    @Test
+    public void should_drop_stale_index_entry() throws Exception {
+        Release releaseWithoutAttachment = createRelease("3765276512");
+        given(componentClient.getReleaseById("3765276512", user)).willReturn(releaseWithoutAttachment);
+        given(componentClient.getReleaseSummary(user)).willReturn(Collections.singletonList(releaseWithoutAttachment));
+
+        assertThat(attachmentService.getAttachmentByIdForUser("1231231254", user), is(nullValue()));
+        assertThat(attachmentIndex.findByAttachmentContentId("1231231254"), is(nullValue()));
+        assertThat(attachmentIndex.findBySha1("da373e491d3863477568896089ee9457bc316783"), is(nullValue()));
+    }
+
+    @Test
+    public void should_search_all_releases_without_warm_up_user() throws Exception {
+        AttachmentIndex emptyIndex = new AttachmentIndex(mock(ThriftClientPools.class), mock(Sw360UserService.class));
+        ReflectionTestUtils.setField(emptyIndex, "warmUpUserEmail", "");
+        emptyIndex.warmUp();
+        ThriftClientPools thriftClientPools = mock(ThriftClientPools.class);
+        given(thriftClientPools.getComponentClient()).willReturn(componentClient);
+        given(componentClient.getReleaseSummary(user)).willReturn(Collections.singletonList(release));
+
+        AttachmentInfo attachmentInfo = new Sw360AttachmentService(thriftClientPools, emptyIndex)
+                .getAttachmentBySha1ForUser("da373e491d3863477568896089ee9457bc316783", user);
+
+        assertThat(attachmentInfo.getRelease().getId(), is("3765276512"));
+        verify(componentClient, never()).getReleaseById(anyString(), anyObject());
+    }
+
+    private static Release createRelease(String id, Attachment... attachments) {
+        Release release = new Release();
+        release.setId(id);
+        release.setName("Angular");
+        release.setAttachments(new HashSet<>(Arrays.asList(attachments)));
+        return release;
+    }
+
+    private static Attachment createAttachment(String attachmentContentId, String sha1) {
+        Attachment attachment = new Attachment();
+        attachment.setAttachmentContentId(attachmentContentId);
+        attachment.setFilename("angular-2.3.0.zip");
+        attachment.setSha1(sha1);
+        return attachment;
+    }
+}
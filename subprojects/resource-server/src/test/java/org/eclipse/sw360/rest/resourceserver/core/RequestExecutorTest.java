@@ -0,0 +1,141 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+
+package org.eclipse.sw360.rest.resourceserver.core;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class RequestExecutorTest {
+
+    private RequestExecutor requestExecutor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Before
+    public void before() {
+        requestExecutor = new RequestExecutor();
+        ReflectionTestUtils.setField(requestExecutor, "poolSize", 2);
+        ReflectionTestUtils.setField(requestExecutor, "queueCapacity", 2);
+        ReflectionTestUtils.setField(requestExecutor, "timeoutMillis", 100000L);
+        ReflectionTestUtils.setField(requestExecutor, "thriftPoolMaxWaitMillis", 10000L);
+        ReflectionTestUtils.setField(requestExecutor, "thriftConnectTimeoutMillis", 5000L);
+        ReflectionTestUtils.setField(requestExecutor, "thriftReadTimeoutMillis", 60000L);
+        requestExecutor.init();
+
+        request = new MockHttpServletRequest("GET", "/api/releases");
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    @After
+    public void after() {
+        RequestContextHolder.resetRequestAttributes();
+        requestExecutor.destroy();
+    }
+
+    @Test
+    public void should_set_result_of_handler() throws Exception {
+        DeferredResult<String> deferredResult = requestExecutor.submit(() -> {
+            RequestContextHolder.currentRequestAttributes().setAttribute("handled", true, RequestAttributes.SCOPE_REQUEST);
+            return "result";
+        });
+        awaitHandlers();
+
+        assertThat(deferredResult.getResult(), is("result"));
+        assertThat(request.getAttribute("handled"), is(true));
+    }
+
+    @Test
+    public void should_raise_timeout_above_backend_timeouts() {
+        RequestExecutor executor = new RequestExecutor();
+        ReflectionTestUtils.setField(executor, "poolSize", 1);
+        ReflectionTestUtils.setField(executor, "timeoutMillis", 30000L);
+        ReflectionTestUtils.setField(executor, "thriftPoolMaxWaitMillis", 10000L);
+        ReflectionTestUtils.setField(executor, "thriftConnectTimeoutMillis", 5000L);
+        ReflectionTestUtils.setField(executor, "thriftReadTimeoutMillis", 60000L);
+        executor.init();
+        executor.destroy();
+
+        assertThat(ReflectionTestUtils.getField(executor, "timeoutMillis"), is(76000L));
+    }
+
+    @Test
+    public void should_not_touch_request_after_timeout() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch backendAnswered = new CountDownLatch(1);
+        AtomicReference<Exception> lateAccessFailure = new AtomicReference<>();
+        DeferredResult<String> deferredResult = requestExecutor.submit(() -> {
+            started.countDown();
+            // like a backend call blocked in I/O, which does not react to the interrupt
+            awaitUninterruptibly(backendAnswered);
+            try {
+                RequestExecutor.whileRequestActive(() -> new ServletWebRequest(request, response).checkNotModified("\"1-a\""));
+            } catch (IllegalStateException e) {
+                lateAccessFailure.set(e);
+            }
+            RequestContextHolder.currentRequestAttributes().setAttribute("handled", true, RequestAttributes.SCOPE_REQUEST);
+            return "late result";
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // the container runs the timeout and completion callbacks, then recycles the request
+        ((Runnable) ReflectionTestUtils.getField(deferredResult, "timeoutCallback")).run();
+        ((Runnable) ReflectionTestUtils.getField(deferredResult, "completionCallback")).run();
+        backendAnswered.countDown();
+        awaitHandlers();
+
+        assertThat(lateAccessFailure.get(), is(instanceOf(IllegalStateException.class)));
+        assertThat(response.getHeader("ETag"), is(nullValue()));
+        assertThat(request.getAttribute("handled"), is(nullValue()));
+        assertThat(deferredResult.hasResult(), is(false));
+    }
+
+    private void awaitHandlers() throws InterruptedException {
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) ReflectionTestUtils.getField(requestExecutor, "executor");
+        executor.getThreadPoolExecutor().shutdown();
+        assertTrue(executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -9,6 +9,8 @@
 
 package org.eclipse.sw360.rest.resourceserver.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.sw360.datahandler.thrift.projects.Project;
 import org.eclipse.sw360.datahandler.thrift.users.User;
 import org.eclipse.sw360.rest.resourceserver.TestHelper;
@@ -23,9 +25,13 @@ import org.springframework.http.*;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.anyObject;
 
@@ -44,6 +50,7 @@ public class ProjectTest extends IntegrationTestBase {
     public void before() {
         List<Project> projectList = new ArrayList<>();
         Project project = new Project();
+        project.setId("123");
         project.setName("Project name");
         project.setDescription("Project description");
         projectList.add(project);
@@ -71,4 +78,40 @@ public class ProjectTest extends IntegrationTestBase {
         TestHelper.checkResponse(response.getBody(), "projects", 1);
     }
 
+    @Test
+    public void should_stream_all_projects() throws IOException {
+        HttpHeaders headers = getHeaders(port);
+        headers.setAccept(Collections.singletonList(MediaType.valueOf("application/x-ndjson")));
+        ResponseEntity<String> response =
+                new TestRestTemplate().exchange("http://localhost:" + port + "/api/projects",
+                        HttpMethod.GET,
+                        new HttpEntity<>(null, headers),
+                        String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        String[] lines = response.getBody().split("\n");
+        assertEquals(1, lines.length);
+        JsonNode projectNode = new ObjectMapper().readTree(lines[0]);
+        assertEquals("Project name", projectNode.get("name").asText());
+        assertThat(projectNode.get("_links").get("self").get("href").asText(), endsWith("/api/projects/123"));
+    }
+
+    @Test
+    public void should_answer_unchanged_projects_with_not_modified() throws IOException {
+        HttpHeaders headers = getHeaders(port);
+        ResponseEntity<String> response =
+                new TestRestTemplate().exchange("http://localhost:" + port + "/api/projects",
+                        HttpMethod.GET,
+                        new HttpEntity<>(null, headers),
+                        String.class);
+        String eTag = response.getHeaders().getETag();
+        assertThat(eTag, startsWith("W/"));
+
+        headers.setIfNoneMatch(eTag);
+        response = new TestRestTemplate().exchange("http://localhost:" + port + "/api/projects",
+                HttpMethod.GET,
+                new HttpEntity<>(null, headers),
+                String.class);
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+
+package org.eclipse.sw360.rest.resourceserver.license;
+
+import org.eclipse.sw360.datahandler.thrift.licenses.License;
+import org.eclipse.sw360.datahandler.thrift.licenses.LicenseService;
+import org.eclipse.sw360.rest.resourceserver.thrift.ThriftClientPools;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class Sw360LicenseServiceTest {
+
+    private LicenseService.Iface licenseClient;
+    private Sw360LicenseService licenseService;
+
+    @Before
+    public void before() throws Exception {
+        licenseClient = mock(LicenseService.Iface.class);
+        ThriftClientPools thriftClientPools = mock(ThriftClientPools.class);
+        given(thriftClientPools.getLicenseClient()).willReturn(licenseClient);
+
+        License apache = createLicense("Apache-2.0", "Apache 2.0 License");
+        apache.setText("Dummy License Text");
+        License gpl = createLicense("GPL-2.0", "GNU General Public License 2.0");
+        given(licenseClient.getLicenseSummary()).willReturn(Arrays.asList(apache, gpl));
+
+        licenseService = new Sw360LicenseService(thriftClientPools);
+        ReflectionTestUtils.setField(licenseService, "minRefreshIntervalMillis", 10000L);
+    }
+
+    @Test
+    public void should_find_license_summary_in_index() throws Exception {
+        License license = licenseService.getLicenseSummaryById("Apache-2.0");
+
+        assertThat(license.getFullname(), is("Apache 2.0 License"));
+        assertThat(license.getShortname(), is("Apache-2.0"));
+        assertThat(license.getText(), is(nullValue()));
+
+        licenseService.getLicenseSummaryById("GPL-2.0");
+        verify(licenseClient, times(1)).getLicenseSummary();
+        verify(licenseClient, never()).getByID(anyString(), anyString());
+    }
+
+    @Test
+    public void should_load_missing_license_without_refresh_within_interval() throws Exception {
+        License mit = createLicense("MIT", "MIT License");
+        given(licenseClient.getByID("MIT", "?")).willReturn(mit);
+
+        licenseService.getLicenseSummaryById("Apache-2.0");
+        License license = licenseService.getLicenseSummaryById("MIT");
+        assertThat(license.getFullname(), is("MIT License"));
+
+        // the loaded license is added to the index
+        licenseService.getLicenseSummaryById("MIT");
+        verify(licenseClient, times(1)).getLicenseSummary();
+        verify(licenseClient, times(1)).getByID("MIT", "?");
+    }
+
+    @Test
+    public void should_refresh_index_on_miss_after_interval() throws Exception {
+        ReflectionTestUtils.setField(licenseService, "minRefreshIntervalMillis", 0L);
+        licenseService.getLicenseSummaryById("Apache-2.0");
+
+        License mit = createLicense("MIT", "MIT License");
+        given(licenseClient.getLicenseSummary()).willReturn(Collections.singletonList(mit));
+        Thread.sleep(2);
+
+        License license = licenseService.getLicenseSummaryById("MIT");
+        assertThat(license.getFullname(), is("MIT License"));
+        verify(licenseClient, times(2)).getLicenseSummary();
+        verify(licenseClient, never()).getByID(anyString(), anyString());
+    }
+
+    @Test
+    public void should_not_refresh_an_index_replaced_in_the_meantime() throws Exception {
+        Map<String, License> staleIndex = licenseService.refreshLicenseIndex(null);
+        Map<String, License> currentIndex = licenseService.refreshLicenseIndex(staleIndex);
+
+        assertThat(licenseService.refreshLicenseIndex(staleIndex), is(sameInstance(currentIndex)));
+        verify(licenseClient, times(2)).getLicenseSummary();
+    }
+
+    private static License createLicense(String id, String fullname) {
+        License license = new License();
+        license.setId(id);
+        license.setFullname(fullname);
+        license.setShortname(id);
+        return license;
+    }
+}
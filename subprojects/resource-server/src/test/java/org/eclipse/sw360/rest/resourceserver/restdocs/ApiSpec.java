@@ -56,7 +56,7 @@ public class ApiSpec extends RestDocsSpecBase {
         given(this.projectServiceMock.getProjectForUserById(anyString(), anyObject())).willThrow(new RuntimeException(new TException("Internal error processing getProjectById")));
 
         String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
-        this.mockMvc.perform(RestDocumentationRequestBuilders.get("/api/projects/12321")
+        perform(RestDocumentationRequestBuilders.get("/api/projects/12321")
                 .header("Authorization", "Bearer " + accessToken))
                 .andExpect(status().isInternalServerError())
                 .andDo(this.documentationHandler.document(
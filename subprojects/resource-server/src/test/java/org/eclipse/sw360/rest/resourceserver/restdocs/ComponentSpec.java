@@ -13,13 +13,22 @@ import org.eclipse.sw360.datahandler.thrift.components.Component;
 import org.eclipse.sw360.datahandler.thrift.components.ComponentType;
 import org.eclipse.sw360.datahandler.thrift.components.Release;
 import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.datahandler.thrift.vendors.Vendor;
 import org.eclipse.sw360.rest.resourceserver.TestHelper;
 import org.eclipse.sw360.rest.resourceserver.component.Sw360ComponentService;
+import org.eclipse.sw360.rest.resourceserver.job.JobService;
+import org.eclipse.sw360.rest.resourceserver.job.JobState;
 import org.eclipse.sw360.rest.resourceserver.user.Sw360UserService;
+import org.eclipse.sw360.rest.resourceserver.vendor.Sw360VendorService;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.*;
 
@@ -34,6 +43,7 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWit
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class ComponentSpec extends RestDocsSpecBase {
@@ -44,6 +54,12 @@ public class ComponentSpec extends RestDocsSpecBase {
     @MockBean
     private Sw360ComponentService componentServiceMock;
 
+    @MockBean
+    private Sw360VendorService vendorServiceMock;
+
+    @Autowired
+    private JobService jobService;
+
     @Before
     public void before() {
         List<Component> componentList = new ArrayList<>();
@@ -89,6 +105,19 @@ public class ComponentSpec extends RestDocsSpecBase {
 
         given(this.userServiceMock.getUserByEmail("admin@sw360.org")).willReturn(user);
 
+        Vendor google = new Vendor();
+        google.setId("876876776");
+        google.setFullname("Google");
+        google.setShortname("Google");
+        given(this.vendorServiceMock.getVendorById("876876776")).willReturn(google);
+        given(this.vendorServiceMock.getVendorByFullName("Google")).willReturn(google);
+
+        Vendor pivotal = new Vendor();
+        pivotal.setId("987567468");
+        pivotal.setFullname("Pivotal");
+        pivotal.setShortname("Pivotal");
+        given(this.vendorServiceMock.getVendorByFullName("Pivotal")).willReturn(pivotal);
+
         List<Release> releaseList = new ArrayList<>();
         Release release = new Release();
         release.setId("3765276512");
@@ -122,7 +151,7 @@ public class ComponentSpec extends RestDocsSpecBase {
     @Test
     public void should_document_get_components() throws Exception {
         String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
-        mockMvc.perform(get("/api/components")
+        perform(get("/api/components")
                 .header("Authorization", "Bearer " + accessToken)
                 .accept(MediaTypes.HAL_JSON))
                 .andExpect(status().isOk())
@@ -139,7 +168,7 @@ public class ComponentSpec extends RestDocsSpecBase {
     @Test
     public void should_document_get_component() throws Exception {
         String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
-        mockMvc.perform(get("/api/components/17653524")
+        perform(get("/api/components/17653524")
                 .header("Authorization", "Bearer " + accessToken)
                 .accept(MediaTypes.HAL_JSON))
                 .andExpect(status().isOk())
@@ -194,4 +223,116 @@ public class ComponentSpec extends RestDocsSpecBase {
                                 fieldWithPath("_links").description("<<resources-index-links,Links>> to other resources")
                         )));
     }
+
+    @Test
+    public void should_document_create_components_bulk() throws Exception {
+        List<Map<String, String>> components = new ArrayList<>();
+        for (String name : Arrays.asList("spring-core", "spring-beans")) {
+            Map<String, String> component = new HashMap<>();
+            component.put("name", name);
+            component.put("componentType", ComponentType.OSS.toString());
+            components.add(component);
+        }
+
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        this.mockMvc.perform(
+                post("/api/components/bulk")
+                        .contentType(MediaTypes.HAL_JSON)
+                        .content(this.objectMapper.writeValueAsString(components))
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andDo(this.documentationHandler.document(
+                        requestFields(
+                                fieldWithPath("[].name").description("The name of the component"),
+                                fieldWithPath("[].componentType").description("The component type, possible values are: " + Arrays.asList(ComponentType.values()))
+                        ),
+                        responseFields(
+                                fieldWithPath("[].status").description("The HTTP status for the component, 201 if it was created"),
+                                fieldWithPath("[].id").description("The id of the created component"),
+                                fieldWithPath("[].href").description("The link to the created <<resources-component-get,Component resource>>")
+                        )));
+    }
+
+    @Test
+    public void should_report_failed_items_of_create_components_bulk() throws Exception {
+        when(this.componentServiceMock.createComponent(anyObject(), anyObject())).then(invocation -> {
+            Component component = (Component) invocation.getArguments()[0];
+            if ("Angular".equals(component.getName())) {
+                throw new DataIntegrityViolationException("sw360 component with name 'Angular' already exists.");
+            }
+            component.setId("678dstzd9");
+            return component;
+        });
+
+        List<Map<String, Object>> components = new ArrayList<>();
+        for (String name : Arrays.asList("Angular", "spring-core", "spring-beans")) {
+            Map<String, Object> component = new HashMap<>();
+            component.put("name", name);
+            component.put("componentType", ComponentType.OSS.toString());
+            components.add(component);
+        }
+        components.get(1).put("vendorNames", Collections.singletonList("http://localhost/api/vendors/876876776"));
+        components.get(2).put("vendorNames", Collections.singletonList("http://localhost/api/vendors/unknown"));
+
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        this.mockMvc.perform(
+                post("/api/components/bulk")
+                        .contentType(MediaTypes.HAL_JSON)
+                        .content(this.objectMapper.writeValueAsString(components))
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(409))
+                .andExpect(jsonPath("$[1].status").value(201))
+                .andExpect(jsonPath("$[1].id").value("678dstzd9"))
+                .andExpect(jsonPath("$[2].status").value(400))
+                .andExpect(jsonPath("$[2].message").value("unknown vendor http://localhost/api/vendors/unknown"));
+    }
+
+    @Test
+    public void should_report_created_components_of_async_bulk() throws Exception {
+        when(this.componentServiceMock.createComponent(anyObject(), anyObject())).then(invocation -> {
+            Component component = (Component) invocation.getArguments()[0];
+            if ("Angular".equals(component.getName())) {
+                throw new DataIntegrityViolationException("sw360 component with name 'Angular' already exists.");
+            }
+            component.setId("678dstzd9");
+            return component;
+        });
+
+        List<Map<String, String>> components = new ArrayList<>();
+        for (String name : Arrays.asList("Angular", "spring-core")) {
+            Map<String, String> component = new HashMap<>();
+            component.put("name", name);
+            component.put("componentType", ComponentType.OSS.toString());
+            components.add(component);
+        }
+
+        // the job runs within the submitting request, so its final state can be asserted
+        Object jobExecutor = ReflectionTestUtils.getField(jobService, "executor");
+        ReflectionTestUtils.setField(jobService, "executor", new SyncTaskExecutor());
+        try {
+            String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+            MvcResult submission = this.mockMvc.perform(
+                    post("/api/components/bulk")
+                            .param("async", "true")
+                            .contentType(MediaTypes.HAL_JSON)
+                            .content(this.objectMapper.writeValueAsString(components))
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andExpect(status().isAccepted())
+                    .andReturn();
+
+            this.mockMvc.perform(get(submission.getResponse().getHeader("Location"))
+                    .header("Authorization", "Bearer " + accessToken)
+                    .accept(MediaTypes.HAL_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.state").value(JobState.COMPLETED.name()))
+                    .andExpect(jsonPath("$.failed").value(1))
+                    .andExpect(jsonPath("$.items[0].status").value(409))
+                    .andExpect(jsonPath("$.items[1].status").value(201))
+                    .andExpect(jsonPath("$.items[1].id").value("678dstzd9"))
+                    .andExpect(jsonPath("$.items[1].href").value("http://localhost/api/components/678dstzd9"));
+        } finally {
+            ReflectionTestUtils.setField(jobService, "executor", jobExecutor);
+        }
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.sw360.rest.resourceserver.restdocs;
+
+import org.eclipse.sw360.datahandler.thrift.projects.Project;
+import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.datahandler.thrift.users.UserGroup;
+import org.eclipse.sw360.rest.resourceserver.TestHelper;
+import org.eclipse.sw360.rest.resourceserver.job.JobService;
+import org.eclipse.sw360.rest.resourceserver.job.JobState;
+import org.eclipse.sw360.rest.resourceserver.project.Sw360ProjectService;
+import org.eclipse.sw360.rest.resourceserver.user.Sw360UserService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class JobSpec extends RestDocsSpecBase {
+
+    @MockBean
+    private Sw360UserService userServiceMock;
+
+    @MockBean
+    private Sw360ProjectService projectServiceMock;
+
+    @Autowired
+    private JobService jobService;
+
+    private Object jobExecutor;
+
+    private User user;
+
+    @Before
+    public void before() {
+        // the jobs run within the submitting request, so their final state can be asserted
+        jobExecutor = ReflectionTestUtils.getField(jobService, "executor");
+        ReflectionTestUtils.setField(jobService, "executor", new SyncTaskExecutor());
+
+        user = new User();
+        user.setEmail("admin@sw360.org");
+        user.setId("123456789");
+        user.setUserGroup(UserGroup.ADMIN);
+        given(this.userServiceMock.getUserByEmail("admin@sw360.org")).willReturn(user);
+
+        List<Project> projectList = new ArrayList<>();
+        for (String projectId : new String[]{"376576", "376570"}) {
+            Project project = new Project();
+            project.setId(projectId);
+            project.setName("Project " + projectId);
+            projectList.add(project);
+        }
+        given(this.projectServiceMock.loadProjectsForUser(any())).willReturn(projectList);
+        willThrow(new RuntimeException("sw360 project with name 'Project 376570' cannot be deleted."))
+                .given(this.projectServiceMock).deleteProject(eq(projectList.get(1)), any());
+    }
+
+    @After
+    public void after() {
+        ReflectionTestUtils.setField(jobService, "executor", jobExecutor);
+    }
+
+    @Test
+    public void should_document_delete_projects() throws Exception {
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        mockMvc.perform(delete("/api/projects")
+                .param("confirm", "true")
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", containsString("/api/jobs/")))
+                .andDo(this.documentationHandler.document(
+                        requestParameters(
+                                parameterWithName("confirm").description("Must be true, deleting all resources of a kind has to be confirmed")
+                        ),
+                        links(
+                                linkWithRel("self").description("The <<resources-jobs,Job resource>> to poll")
+                        )));
+    }
+
+    @Test
+    public void should_document_get_job() throws Exception {
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        MvcResult submission = mockMvc.perform(delete("/api/projects")
+                .param("confirm", "true")
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isAccepted())
+                .andReturn();
+        String jobLocation = submission.getResponse().getHeader("Location");
+        String jobId = jobLocation.substring(jobLocation.lastIndexOf('/') + 1);
+
+        mockMvc.perform(get("/api/jobs/" + jobId)
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value(JobState.COMPLETED.name()))
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.processed").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.failures[0].id").value("376570"))
+                .andExpect(jsonPath("$.items[0].status").value(204))
+                .andExpect(jsonPath("$.items[0].id").value("376576"))
+                .andExpect(jsonPath("$.items[1].status").value(500))
+                .andDo(this.documentationHandler.document(
+                        links(
+                                linkWithRel("self").description("The <<resources-jobs,Job resource>>")
+                        ),
+                        responseFields(
+                                fieldWithPath("id").description("The id of the job"),
+                                fieldWithPath("type").description("The operation of the job"),
+                                fieldWithPath("state").description("The state of the job, possible values are: " + Arrays.asList(JobState.values())),
+                                fieldWithPath("total").description("The number of items of the job"),
+                                fieldWithPath("processed").description("The number of items processed so far"),
+                                fieldWithPath("failed").description("The number of items that could not be processed"),
+                                fieldWithPath("failures").description("An array of the items that could not be processed"),
+                                fieldWithPath("failures[].index").description("The position of the item in the job"),
+                                fieldWithPath("failures[].id").description("The id of the item, if known"),
+                                fieldWithPath("failures[].status").description("The HTTP status for the item"),
+                                fieldWithPath("failures[].message").description("The reason of the failure"),
+                                fieldWithPath("items").description("An array of the outcome of every item in the order of the job, null for items not processed yet"),
+                                fieldWithPath("items[].status").description("The HTTP status for the item, like 201 for a created or 204 for a deleted item"),
+                                fieldWithPath("items[].id").description("The id of the item, for created items the id of the new resource"),
+                                fieldWithPath("items[].href").optional().description("The link to a created resource"),
+                                fieldWithPath("items[].message").optional().description("The reason of a failure"),
+                                fieldWithPath("submittedOn").description("The time the job was submitted"),
+                                fieldWithPath("startedOn").description("The time the job started"),
+                                fieldWithPath("finishedOn").description("The time the job finished"),
+                                fieldWithPath("_links").description("<<resources-index-links,Links>> to other resources")
+                        )));
+    }
+
+    @Test
+    public void should_require_confirmation_to_delete_projects() throws Exception {
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        mockMvc.perform(delete("/api/projects")
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void should_forbid_deleting_projects_to_users() throws Exception {
+        user.setUserGroup(UserGroup.USER);
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        mockMvc.perform(delete("/api/projects")
+                .param("confirm", "true")
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -28,6 +28,8 @@ import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.li
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -85,7 +87,7 @@ public class ProjectSpec  extends RestDocsSpecBase {
     @Test
     public void should_document_get_projects()  throws Exception {
         String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
-        mockMvc.perform(get("/api/projects")
+        perform(get("/api/projects")
                 .header("Authorization", "Bearer " + accessToken)
                 .accept(MediaTypes.HAL_JSON))
                 .andExpect(status().isOk())
@@ -99,10 +101,37 @@ public class ProjectSpec  extends RestDocsSpecBase {
                         )));
     }
 
+    @Test
+    public void should_document_get_projects_paged() throws Exception {
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        perform(get("/api/projects")
+                .param("page", "0")
+                .param("size", "1")
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andDo(this.documentationHandler.document(
+                        requestParameters(
+                                parameterWithName("page").description("The zero-based number of the requested page"),
+                                parameterWithName("size").description("The number of projects on a page")
+                        ),
+                        links(
+                                linkWithRel("curies").description("Curies are used for online documentation"),
+                                linkWithRel("first").description("The first page"),
+                                linkWithRel("next").description("The next page, if there is one"),
+                                linkWithRel("last").description("The last page")
+                        ),
+                        responseFields(
+                                fieldWithPath("_embedded.sw360:projects").description("An array of the <<resources-projects, Projects resources>> on this page"),
+                                fieldWithPath("_links").description("<<resources-index-links,Links>> to other resources"),
+                                fieldWithPath("page").description("The size and number of this page and the total number of projects and pages")
+                        )));
+    }
+
     @Test
     public void should_document_get_project() throws Exception {
         String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
-        mockMvc.perform(get("/api/projects/" + project.getId())
+        perform(get("/api/projects/" + project.getId())
                 .header("Authorization", "Bearer " + accessToken)
                 .accept(MediaTypes.HAL_JSON))
                 .andExpect(status().isOk())
@@ -15,11 +15,14 @@ import org.eclipse.sw360.datahandler.thrift.components.ComponentType;
 import org.eclipse.sw360.datahandler.thrift.components.Release;
 import org.eclipse.sw360.datahandler.thrift.users.User;
 import org.eclipse.sw360.rest.resourceserver.TestHelper;
+import org.eclipse.sw360.rest.resourceserver.core.EmbeddingBatch;
+import org.eclipse.sw360.rest.resourceserver.license.Sw360LicenseService;
 import org.eclipse.sw360.rest.resourceserver.release.Sw360ReleaseService;
 import org.eclipse.sw360.rest.resourceserver.user.Sw360UserService;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.hateoas.MediaTypes;
 
 import java.util.*;
@@ -28,9 +31,14 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class ReleaseSpec extends RestDocsSpecBase {
@@ -41,6 +49,9 @@ public class ReleaseSpec extends RestDocsSpecBase {
     @MockBean
     private Sw360ReleaseService releaseServiceMock;
 
+    @MockBean
+    private Sw360LicenseService licenseServiceMock;
+
     private Release release;
 
     @Before
@@ -100,7 +111,7 @@ public class ReleaseSpec extends RestDocsSpecBase {
     @Test
     public void should_document_get_releases()  throws Exception {
         String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
-        mockMvc.perform(get("/api/releases")
+        perform(get("/api/releases")
                 .header("Authorization", "Bearer " + accessToken)
                 .accept(MediaTypes.HAL_JSON))
                 .andExpect(status().isOk())
@@ -117,7 +128,7 @@ public class ReleaseSpec extends RestDocsSpecBase {
     @Test
     public void should_document_get_release() throws Exception {
         String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
-        mockMvc.perform(get("/api/releases/" + release.getId())
+        perform(get("/api/releases/" + release.getId())
                 .header("Authorization", "Bearer " + accessToken)
                 .accept(MediaTypes.HAL_JSON))
                 .andExpect(status().isOk())
@@ -140,4 +151,118 @@ public class ReleaseSpec extends RestDocsSpecBase {
                                 fieldWithPath("_links").description("<<resources-index-links,Links>> to other resources")
                         )));
     }
+
+    @Test
+    public void should_document_get_release_with_fields() throws Exception {
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        perform(get("/api/releases/" + release.getId())
+                .param("fields", "name,version,clearingState")
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andDo(this.documentationHandler.document(
+                        requestParameters(
+                                parameterWithName("fields").description("Comma separated names of the properties to return"),
+                                parameterWithName("embed").optional().description("Comma separated relations of the resources to embed, " +
+                                        "possible values are moderators, attachments, vendor and licenses")
+                        ),
+                        links(
+                                linkWithRel("self").description("The <<resources-releases,Releases resource>>"),
+                                linkWithRel("sw360:component").description("The link to the corresponding component"),
+                                linkWithRel("curies").description("The curies for documentation")
+                        ),
+                        responseFields(
+                                fieldWithPath("version").description("The version of the release"),
+                                fieldWithPath("name").description("The name of the release, optional"),
+                                fieldWithPath("clearingState").description("The clearing of the release, possible values are " + Arrays.asList(ClearingState.values())),
+                                fieldWithPath("_links").description("<<resources-index-links,Links>> to other resources")
+                        )));
+    }
+
+    @Test
+    public void should_embed_stub_when_lookup_fails() throws Exception {
+        release.setRevision("1-a7f3");
+        release.setMainLicenseIds(new HashSet<>(Collections.singletonList("Apache-2.0")));
+        given(this.licenseServiceMock.getLicenseSummaryById(anyString())).willThrow(new RuntimeException("license service unavailable"));
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        perform(get("/api/releases/" + release.getId())
+                .param("embed", "licenses")
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(EmbeddingBatch.DEGRADED_HEADER, "licenses"))
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$._embedded.licenses[0]._links.self.href").value("http://localhost/api/licenses/Apache-2.0"));
+    }
+
+    @Test
+    public void should_reject_invalid_page() throws Exception {
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        perform(get("/api/releases")
+                .param("page", "-1")
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void should_answer_internal_argument_errors_as_server_error() throws Exception {
+        given(this.releaseServiceMock.getReleaseForUserById(eq("3765276599"), anyObject()))
+                .willThrow(new IllegalArgumentException("invalid thrift field"));
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        perform(get("/api/releases/3765276599")
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    public void should_send_etag_with_complete_embeddings() throws Exception {
+        release.setRevision("1-a7f3");
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        perform(get("/api/releases/" + release.getId())
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(EmbeddingBatch.DEGRADED_HEADER))
+                .andExpect(header().string("ETag", "\"1-a7f3\""));
+    }
+
+    @Test
+    public void should_create_releases_bulk() throws Exception {
+        given(this.releaseServiceMock.createRelease(anyObject(), anyObject())).willAnswer(invocation -> {
+            Release newRelease = (Release) invocation.getArguments()[0];
+            if ("2.3.0".equals(newRelease.getVersion())) {
+                throw new DataIntegrityViolationException("sw360 release with name 'Angular 2.3.0' already exists.");
+            }
+            newRelease.setId("3765276513");
+            return newRelease;
+        });
+
+        List<Map<String, Object>> releases = new ArrayList<>();
+        for (String version : Arrays.asList("2.3.0", "2.4.0", "2.5.0")) {
+            Map<String, Object> newRelease = new HashMap<>();
+            newRelease.put("name", "Angular");
+            newRelease.put("version", version);
+            newRelease.put("componentId", "http://localhost/api/components/17653524");
+            newRelease.put("mainLicenseIds", Collections.singletonList("http://localhost/api/licenses/MIT"));
+            releases.add(newRelease);
+        }
+        releases.get(2).remove("componentId");
+
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        this.mockMvc.perform(
+                post("/api/releases/bulk")
+                        .contentType(MediaTypes.HAL_JSON)
+                        .content(this.objectMapper.writeValueAsString(releases))
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(409))
+                .andExpect(jsonPath("$[1].status").value(201))
+                .andExpect(jsonPath("$[1].id").value("3765276513"))
+                .andExpect(jsonPath("$[1].href").value("http://localhost/api/releases/3765276513"))
+                .andExpect(jsonPath("$[2].status").value(400))
+                .andExpect(jsonPath("$[2].message").value("componentId is missing"));
+    }
 }
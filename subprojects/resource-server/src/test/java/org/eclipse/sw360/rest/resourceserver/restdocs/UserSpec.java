@@ -25,10 +25,12 @@ import java.util.Base64;
 import java.util.List;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -111,4 +113,22 @@ public class UserSpec  extends RestDocsSpecBase {
                                 fieldWithPath("_links").description("<<resources-index-links,Links>> to other resources")
                         )));
     }
+
+    @Test
+    public void should_document_evict_user() throws Exception {
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        mockMvc.perform(delete("/api/users/" + user.getId() + "/cache")
+                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isNoContent());
+        verify(this.userServiceMock).evictUser("admin@sw360.org");
+    }
+
+    @Test
+    public void should_document_evict_all_users() throws Exception {
+        String accessToken = TestHelper.getAccessToken(mockMvc, "admin@sw360.org", "sw360-password");
+        mockMvc.perform(delete("/api/users/cache")
+                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isNoContent());
+        verify(this.userServiceMock).evictAllUsers();
+    }
 }
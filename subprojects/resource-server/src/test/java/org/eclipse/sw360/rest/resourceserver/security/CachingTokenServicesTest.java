@@ -0,0 +1,100 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+
+package org.eclipse.sw360.rest.resourceserver.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.security.jwt.JwtHelper;
+import org.springframework.security.jwt.crypto.sign.RsaSigner;
+import org.springframework.security.jwt.crypto.sign.RsaVerifier;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CachingTokenServicesTest {
+
+    private KeyPair keyPair;
+    private JwtClaimsDecoder claimsDecoder;
+    private CachingTokenServices tokenServices;
+
+    @Before
+    public void before() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        keyPair = keyPairGenerator.generateKeyPair();
+
+        JwtClaimsDecoder decoder = new JwtClaimsDecoder();
+        decoder.setVerifier(new RsaVerifier((RSAPublicKey) keyPair.getPublic()));
+        claimsDecoder = spy(decoder);
+        tokenServices = new CachingTokenServices(claimsDecoder, new ConcurrentMapCache(CachingTokenServices.TOKENS_CACHE));
+    }
+
+    @Test
+    public void should_decode_a_token_only_once() throws Exception {
+        String token = createToken(System.currentTimeMillis() / 1000 + 3600);
+
+        OAuth2Authentication first = tokenServices.loadAuthentication(token);
+        OAuth2Authentication second = tokenServices.loadAuthentication(token);
+
+        verify(claimsDecoder, times(1)).decodeClaims(token);
+        assertThat(second.getName(), is("admin@sw360.org"));
+        // the authentication manager sets the request details, so concurrent requests must not share an instance
+        assertThat(second, not(sameInstance(first)));
+        first.setDetails("details of the first request");
+        assertThat(second.getDetails(), nullValue());
+    }
+
+    @Test
+    public void should_not_use_an_expired_entry() throws Exception {
+        long expiration = System.currentTimeMillis() / 1000 + 2;
+        String token = createToken(expiration);
+        tokenServices.loadAuthentication(token);
+
+        Thread.sleep(expiration * 1000 - System.currentTimeMillis() + 100);
+        try {
+            tokenServices.loadAuthentication(token);
+            fail("an expired token must not be accepted");
+        } catch (InvalidTokenException e) {
+            verify(claimsDecoder, times(2)).decodeClaims(token);
+        }
+    }
+
+    private String createToken(long expirationSeconds) throws Exception {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("user_name", "admin@sw360.org");
+        claims.put("client_id", "trusted-sw360-client");
+        claims.put("scope", Collections.singletonList("sw360.read"));
+        claims.put("aud", Collections.singletonList("sw360-REST-API"));
+        claims.put("authorities", Collections.singletonList("ROLE_SW360_USER"));
+        claims.put("exp", expirationSeconds);
+        String content = new ObjectMapper().writeValueAsString(claims);
+        return JwtHelper.encode(content, new RsaSigner((RSAPrivateKey) keyPair.getPrivate())).getEncoded();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+
+package org.eclipse.sw360.rest.resourceserver.thrift;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ThriftCircuitBreakerTest {
+
+    @Test
+    public void should_open_after_consecutive_failures() {
+        ThriftCircuitBreaker circuitBreaker = new ThriftCircuitBreaker("vendors", 3, 60000);
+
+        failCalls(circuitBreaker, 2);
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquire());
+        failCalls(circuitBreaker, 2);
+        assertThat(circuitBreaker.isOpen(), is(false));
+
+        failCalls(circuitBreaker, 1);
+        assertThat(circuitBreaker.isOpen(), is(true));
+        assertThat(circuitBreaker.tryAcquire(), is(nullValue()));
+        assertThat(circuitBreaker.getRejectedCalls(), is(1L));
+    }
+
+    @Test
+    public void should_let_a_single_trial_call_through_after_open_time() {
+        ThriftCircuitBreaker circuitBreaker = new ThriftCircuitBreaker("vendors", 1, 0);
+        failCalls(circuitBreaker, 1);
+
+        ThriftCircuitBreaker.Permit trialPermit = circuitBreaker.tryAcquire();
+        assertThat(trialPermit.isTrial(), is(true));
+        assertThat(circuitBreaker.tryAcquire(), is(nullValue()));
+    }
+
+    @Test
+    public void should_close_after_successful_trial_call() {
+        ThriftCircuitBreaker circuitBreaker = new ThriftCircuitBreaker("vendors", 1, 0);
+        failCalls(circuitBreaker, 1);
+
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquire());
+
+        assertThat(circuitBreaker.isOpen(), is(false));
+        assertThat(circuitBreaker.tryAcquire().isTrial(), is(false));
+    }
+
+    @Test
+    public void should_open_again_after_failed_trial_call() {
+        ThriftCircuitBreaker circuitBreaker = new ThriftCircuitBreaker("vendors", 1, 0);
+        failCalls(circuitBreaker, 1);
+
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+
+        assertThat(circuitBreaker.isOpen(), is(true));
+        assertThat(circuitBreaker.tryAcquire().isTrial(), is(true));
+    }
+
+    @Test
+    public void should_ignore_outcomes_of_calls_started_before_opening() {
+        ThriftCircuitBreaker circuitBreaker = new ThriftCircuitBreaker("vendors", 1, 0);
+        ThriftCircuitBreaker.Permit firstPermit = circuitBreaker.tryAcquire();
+        ThriftCircuitBreaker.Permit secondPermit = circuitBreaker.tryAcquire();
+        ThriftCircuitBreaker.Permit thirdPermit = circuitBreaker.tryAcquire();
+        circuitBreaker.onFailure(firstPermit);
+        ThriftCircuitBreaker.Permit trialPermit = circuitBreaker.tryAcquire();
+        assertThat(trialPermit.isTrial(), is(true));
+
+        // late outcomes of calls started while the breaker was closed neither end nor release the trial
+        circuitBreaker.onFailure(secondPermit);
+        circuitBreaker.onAbandoned(thirdPermit);
+        assertThat(circuitBreaker.isOpen(), is(true));
+        assertThat(circuitBreaker.tryAcquire(), is(nullValue()));
+
+        circuitBreaker.onSuccess(trialPermit);
+        assertThat(circuitBreaker.isOpen(), is(false));
+    }
+
+    @Test
+    public void should_not_close_on_success_of_call_started_before_opening() {
+        ThriftCircuitBreaker circuitBreaker = new ThriftCircuitBreaker("vendors", 1, 60000);
+        ThriftCircuitBreaker.Permit slowPermit = circuitBreaker.tryAcquire();
+        failCalls(circuitBreaker, 1);
+
+        circuitBreaker.onSuccess(slowPermit);
+
+        assertThat(circuitBreaker.isOpen(), is(true));
+    }
+
+    @Test
+    public void should_release_trial_of_abandoned_trial_call() {
+        ThriftCircuitBreaker circuitBreaker = new ThriftCircuitBreaker("vendors", 1, 0);
+        failCalls(circuitBreaker, 1);
+
+        circuitBreaker.onAbandoned(circuitBreaker.tryAcquire());
+
+        assertThat(circuitBreaker.isOpen(), is(true));
+        ThriftCircuitBreaker.Permit trialPermit = circuitBreaker.tryAcquire();
+        assertThat(trialPermit, is(notNullValue()));
+        assertThat(trialPermit.isTrial(), is(true));
+    }
+
+    private static void failCalls(ThriftCircuitBreaker circuitBreaker, int calls) {
+        for (int i = 0; i < calls; i++) {
+            circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+
+package org.eclipse.sw360.rest.resourceserver.thrift;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.thrift.transport.TTransportException;
+import org.eclipse.sw360.datahandler.thrift.vendors.VendorService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ThriftClientPoolTest {
+
+    private VendorService.Iface vendorClient;
+    private CloseableHttpClient httpClient;
+    private ExecutorService executorService;
+
+    @Before
+    public void before() {
+        vendorClient = mock(VendorService.Iface.class);
+        httpClient = HttpClients.createDefault();
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void after() throws Exception {
+        executorService.shutdownNow();
+        httpClient.close();
+    }
+
+    @Test
+    public void should_reject_calls_beyond_max_concurrent_calls() throws Exception {
+        ThriftClientPool<VendorService.Iface> pool = createPool(new ThriftCircuitBreaker("vendors", 1, 60000));
+        CountDownLatch callStarted = new CountDownLatch(1);
+        CountDownLatch backendAnswered = new CountDownLatch(1);
+        given(vendorClient.getAllVendors()).willAnswer(invocation -> {
+            callStarted.countDown();
+            backendAnswered.await();
+            return Collections.emptyList();
+        });
+        Future<?> runningCall = executorService.submit(() -> pool.getClient().getAllVendors());
+        assertTrue(callStarted.await(5, TimeUnit.SECONDS));
+
+        try {
+            pool.getClient().getAllVendors();
+            fail("the call must be rejected while the only client is in use");
+        } catch (ThriftServiceUnavailableException e) {
+            assertThat(e.getMessage(), is("cannot borrow thrift client for vendors"));
+        }
+        backendAnswered.countDown();
+        runningCall.get(5, TimeUnit.SECONDS);
+
+        // a rejected call says nothing about the health of the service
+        assertThat(pool.isCircuitOpen(), is(false));
+        verify(vendorClient, times(1)).getAllVendors();
+    }
+
+    @Test
+    public void should_fail_fast_after_transport_failures() throws Exception {
+        ThriftClientPool<VendorService.Iface> pool = createPool(new ThriftCircuitBreaker("vendors", 1, 60000));
+        given(vendorClient.getAllVendors()).willThrow(new TTransportException("read timed out"));
+
+        try {
+            pool.getClient().getAllVendors();
+            fail("the transport failure must be thrown");
+        } catch (TTransportException e) {
+            assertThat(e.getMessage(), is("read timed out"));
+        }
+        try {
+            pool.getClient().getAllVendors();
+            fail("the call must be rejected while the circuit breaker is open");
+        } catch (ThriftServiceUnavailableException e) {
+            assertThat(e.getMessage(), is("circuit breaker for vendors is open"));
+        }
+
+        assertThat(pool.isCircuitOpen(), is(true));
+        assertThat(pool.getRejectedCalls(), is(1L));
+        verify(vendorClient, times(1)).getAllVendors();
+    }
+
+    private ThriftClientPool<VendorService.Iface> createPool(ThriftCircuitBreaker circuitBreaker) {
+        GenericObjectPoolConfig poolConfig = new GenericObjectPoolConfig();
+        poolConfig.setMaxTotal(1);
+        poolConfig.setBlockWhenExhausted(true);
+        poolConfig.setMaxWaitMillis(100);
+        poolConfig.setJmxEnabled(false);
+        return new ThriftClientPool<>("vendors", "http://localhost:8080/vendors/thrift", VendorService.Iface.class,
+                protocol -> vendorClient, httpClient, poolConfig, new ThriftCallMetrics(), circuitBreaker);
+    }
+}
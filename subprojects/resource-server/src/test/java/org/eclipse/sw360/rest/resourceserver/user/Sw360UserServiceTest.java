@@ -0,0 +1,113 @@
+/*
+ * Copyright Siemens AG, 2017. Part of the SW360 Portal Project.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+
+package org.eclipse.sw360.rest.resourceserver.user;
+
+import org.eclipse.sw360.datahandler.thrift.users.User;
+import org.eclipse.sw360.datahandler.thrift.users.UserGroup;
+import org.eclipse.sw360.datahandler.thrift.users.UserService;
+import org.eclipse.sw360.rest.resourceserver.thrift.ThriftClientPools;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+public class Sw360UserServiceTest {
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfiguration {
+        @Bean
+        public CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(Sw360UserService.USERS_CACHE, Sw360UserService.ALL_USERS_CACHE);
+        }
+
+        @Bean
+        public ThriftClientPools thriftClientPools() {
+            return mock(ThriftClientPools.class);
+        }
+
+        @Bean
+        public Sw360UserService userService(ThriftClientPools thriftClientPools) {
+            return new Sw360UserService(thriftClientPools);
+        }
+    }
+
+    @Autowired
+    private ThriftClientPools thriftClientPools;
+
+    @Autowired
+    private Sw360UserService userService;
+
+    private UserService.Iface userClient;
+
+    @Before
+    public void before() throws Exception {
+        userService.evictAllUsers();
+        reset(thriftClientPools);
+        userClient = mock(UserService.Iface.class);
+        given(thriftClientPools.getUserClient()).willReturn(userClient);
+        given(userClient.getByEmail("jane@sw360.org")).willReturn(createUser(UserGroup.USER));
+    }
+
+    @Test
+    public void should_cache_users() throws Exception {
+        userService.getUserByEmail("jane@sw360.org");
+        userService.getUserByEmail("jane@sw360.org");
+
+        verify(userClient, times(1)).getByEmail("jane@sw360.org");
+    }
+
+    @Test
+    public void should_reload_evicted_user() throws Exception {
+        assertThat(userService.getUserByEmail("jane@sw360.org").getUserGroup(), is(UserGroup.USER));
+        given(userClient.getByEmail("jane@sw360.org")).willReturn(createUser(UserGroup.ADMIN));
+
+        userService.evictUser("jane@sw360.org");
+
+        assertThat(userService.getUserByEmail("jane@sw360.org").getUserGroup(), is(UserGroup.ADMIN));
+        verify(userClient, times(2)).getByEmail("jane@sw360.org");
+    }
+
+    @Test
+    public void should_reload_all_users_after_eviction() throws Exception {
+        userService.getUserByEmail("jane@sw360.org");
+
+        userService.evictAllUsers();
+        userService.getUserByEmail("jane@sw360.org");
+
+        verify(userClient, times(2)).getByEmail("jane@sw360.org");
+    }
+
+    private static User createUser(UserGroup userGroup) {
+        User user = new User();
+        user.setEmail("jane@sw360.org");
+        user.setFullname("Jane Doe");
+        user.setUserGroup(userGroup);
+        return user;
+    }
+}